@@ -0,0 +1,160 @@
+package java_stream_api.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java_stream_api.Person;
+import java_stream_api.User;
+
+// Deterministic input generators shared by the benchmark states.
+final class BenchmarkData {
+    private static final String[] CITIES = {"City X", "City Y", "City Z", "Berlin", "Oslo"};
+    private static final String[] HOBBIES = {
+        "reading", "sports", "dancing", "chess", "music", "hiking", "cooking", "gaming"
+    };
+
+    private BenchmarkData() {}
+
+    enum Shape {
+        // Values spread evenly over a wide range.
+        UNIFORM,
+        // Zipf-like: a few small values dominate.
+        SKEWED,
+        // UNIFORM values in ascending order.
+        SORTED,
+        // Only 16 distinct values.
+        DUPLICATES
+    }
+
+    static int[] ints(int size, Shape shape, long seed) {
+        Random rnd = new Random(seed);
+        int[] ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (shape) {
+                case SKEWED -> ints[i] = skewedIndex(rnd, 10_000) - 100;
+                case DUPLICATES -> ints[i] = rnd.nextInt(16) - 4;
+                default -> ints[i] = rnd.nextInt(2_000_001) - 1_000_000;
+            }
+        }
+        if (shape == Shape.SORTED) Arrays.sort(ints);
+        return ints;
+    }
+
+    static List<Integer> boxed(int[] ints) {
+        List<Integer> list = new ArrayList<>(ints.length);
+        for (int n : ints) list.add(n);
+        return list;
+    }
+
+    static List<String> strings(int size, Shape shape, long seed) {
+        Random rnd = new Random(seed);
+        String[] vocabulary = new String[shape == Shape.DUPLICATES ? 16 : 4096];
+        for (int i = 0; i < vocabulary.length; i++) vocabulary[i] = word(rnd);
+        String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] =
+                    switch (shape) {
+                        case SKEWED -> vocabulary[skewedIndex(rnd, vocabulary.length)];
+                        case DUPLICATES -> vocabulary[rnd.nextInt(vocabulary.length)];
+                        default -> word(rnd);
+                    };
+        }
+        if (shape == Shape.SORTED) Arrays.sort(strings);
+        return new ArrayList<>(Arrays.asList(strings));
+    }
+
+    // For operations collecting with Collectors.toMap without a merge function.
+    static List<String> distinctStrings(int size, long seed) {
+        Random rnd = new Random(seed);
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) strings.add(word(rnd) + i);
+        return strings;
+    }
+
+    static List<String> sentences(int size, Shape shape, long seed) {
+        Random rnd = new Random(seed);
+        List<String> words = strings(size * 8, shape, seed);
+        List<String> sentences = new ArrayList<>(size);
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            int length = 1 + rnd.nextInt(15);
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0; w < length; w++) {
+                if (w > 0) sb.append(' ');
+                String word = words.get(next++ % words.size());
+                sb.append(rnd.nextInt(8) == 0 ? capitalize(word) : word);
+            }
+            sentences.add(sb.toString());
+        }
+        return sentences;
+    }
+
+    static List<User> users(int size, Shape shape, long seed) {
+        int[] ages = ints(size, shape, seed);
+        List<String> names = strings(size, shape, seed + 1);
+        Random rnd = new Random(seed + 2);
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User(capitalize(names.get(i)), Math.floorMod(ages[i], 100));
+            int hobbies = rnd.nextInt(4);
+            for (int h = 0; h < hobbies; h++) {
+                user.getHobbies().add(HOBBIES[rnd.nextInt(HOBBIES.length)]);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Person> persons(int size, Shape shape, long seed) {
+        List<String> names = strings(size, shape, seed);
+        Random rnd = new Random(seed + 1);
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String city =
+                    shape == Shape.SKEWED
+                            ? CITIES[skewedIndex(rnd, CITIES.length)]
+                            : CITIES[rnd.nextInt(CITIES.length)];
+            persons.add(new Person(capitalize(names.get(i)), city));
+        }
+        return persons;
+    }
+
+    static <T> List<T> withNulls(List<T> list, long seed) {
+        Random rnd = new Random(seed);
+        List<T> copy = new ArrayList<>(list);
+        for (int i = 0; i < copy.size(); i++) if (rnd.nextInt(10) == 0) copy.set(i, null);
+        return copy;
+    }
+
+    static List<List<Integer>> chunks(List<Integer> ints, int chunkSize) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < ints.size(); i += chunkSize) {
+            chunks.add(ints.subList(i, Math.min(ints.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static int skewedIndex(Random rnd, int bound) {
+        // Inverse of a power law: index 0 is drawn far more often than the tail.
+        double u = rnd.nextDouble();
+        return Math.min(bound - 1, (int) (Math.pow(u, 4) * bound));
+    }
+
+    private static String word(Random rnd) {
+        int length = 1 + rnd.nextInt(12);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            // Mostly lowercase letters, with extra vowels, some capitals and a few digits.
+            int r = rnd.nextInt(40);
+            if (r < 26) chars[i] = (char) ('a' + r);
+            else if (r < 36) chars[i] = "aeiouAEIOU".charAt(r - 26);
+            else chars[i] = (char) ('0' + r - 36);
+        }
+        return new String(chars);
+    }
+
+    private static String capitalize(String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+}
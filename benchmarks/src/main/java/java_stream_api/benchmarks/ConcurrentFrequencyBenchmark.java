@@ -0,0 +1,95 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java_stream_api.ConcurrentFrequencyCounter;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Counting strings from many threads at once. The collect benchmarks count one list with a
+// parallel stream; the ingest benchmarks run 8 threads that each add a batch per call to one
+// shared structure, as ingest threads reading a queue would. DUPLICATES puts every thread
+// on the same 16 keys, the worst case for contention.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ConcurrentFrequencyBenchmark {
+    private static final int BATCH = 256;
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "DUPLICATES"})
+    Shape shape;
+
+    List<String> strings;
+    List<String> batch;
+    ConcurrentFrequencyCounter sharedCounter;
+    ConcurrentMap<String, Long> sharedMap;
+
+    @Setup
+    public void setUp() {
+        strings = BenchmarkData.strings(size, shape, 43);
+        batch = strings.subList(0, Math.min(BATCH, size));
+    }
+
+    // Fresh shared structures each iteration, so they do not grow without bound.
+    @Setup(Level.Iteration)
+    public void resetShared() {
+        sharedCounter = new ConcurrentFrequencyCounter();
+        sharedMap = new ConcurrentHashMap<>();
+    }
+
+    @Benchmark
+    public ConcurrentMap<String, Long> collectGroupingByConcurrent() {
+        return strings.parallelStream()
+                .collect(
+                        Collectors.groupingByConcurrent(
+                                Function.identity(), Collectors.counting()));
+    }
+
+    @Benchmark
+    public ConcurrentFrequencyCounter collectConcurrentCounter() {
+        return strings.parallelStream().collect(ConcurrentFrequencyCounter.collector());
+    }
+
+    @Benchmark
+    public Map<String, Long> collectGroupingByMerge() {
+        return strings.parallelStream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ConcurrentMap<String, Long> ingestConcurrentHashMapMerge() {
+        for (String s : batch) sharedMap.merge(s, 1L, Long::sum);
+        return sharedMap;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ConcurrentFrequencyCounter ingestConcurrentCounter() {
+        sharedCounter.addAll(batch);
+        return sharedCounter;
+    }
+}
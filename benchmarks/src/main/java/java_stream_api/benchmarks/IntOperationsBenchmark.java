@@ -0,0 +1,311 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.IntList;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// App operations over List<Integer> and their int[] overloads.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class IntOperationsBenchmark {
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "SORTED", "DUPLICATES"})
+    Shape shape;
+
+    int[] array;
+    List<Integer> ints;
+    List<List<Integer>> nested;
+
+    @Setup
+    public void setUp() {
+        array = BenchmarkData.ints(size, shape, 42);
+        ints = BenchmarkData.boxed(array);
+        nested = BenchmarkData.chunks(ints, 16);
+    }
+
+    @Benchmark
+    public List<Integer> uniqueIntegers() {
+        return App.uniqueIntegers(ints);
+    }
+
+    @Benchmark
+    public int sumOfIntegers() {
+        return App.sumOfIntegers(ints);
+    }
+
+    @Benchmark
+    public int sumOfIntegersArray() {
+        return App.sumOfIntegers(array);
+    }
+
+    @Benchmark
+    public int minOfIntegers() {
+        return App.minOfIntegers(ints);
+    }
+
+    @Benchmark
+    public int minOfIntegersArray() {
+        return App.minOfIntegers(array);
+    }
+
+    @Benchmark
+    public int maxOfIntegers() {
+        return App.maxOfIntegers(ints);
+    }
+
+    @Benchmark
+    public int maxOfIntegersArray() {
+        return App.maxOfIntegers(array);
+    }
+
+    @Benchmark
+    public int getFirstIntegerOrZero() {
+        return App.getFirstIntegerOrZero(ints);
+    }
+
+    @Benchmark
+    public List<Integer> listOfSquares() {
+        return App.listOfSquares(ints);
+    }
+
+    @Benchmark
+    public IntList listOfSquaresArray() {
+        return App.listOfSquares(array);
+    }
+
+    @Benchmark
+    public List<Integer> filterEvenNumbers() {
+        return App.filterEvenNumbers(ints);
+    }
+
+    @Benchmark
+    public IntList filterEvenNumbersArray() {
+        return App.filterEvenNumbers(array);
+    }
+
+    @Benchmark
+    public double averageOfIntegers() {
+        return App.averageOfIntegers(ints);
+    }
+
+    @Benchmark
+    public double averageOfIntegersArray() {
+        return App.averageOfIntegers(array);
+    }
+
+    @Benchmark
+    public List<Integer> discardFirstThreeIntegers() {
+        return App.discardFirstThreeIntegers(ints);
+    }
+
+    @Benchmark
+    public List<Integer> keepFirstThreeIntegers() {
+        return App.keepFirstThreeIntegers(ints);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByRemainder3() {
+        return App.groupByRemainder3(ints);
+    }
+
+    @Benchmark
+    public List<Boolean> evenIntegersAsBooleans() {
+        return App.evenIntegersAsBooleans(ints);
+    }
+
+    @Benchmark
+    public List<Integer> uniqueElementsReversed() {
+        return App.uniqueElementsReversed(ints);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> integersToSquareMap() {
+        return App.integersToSquareMap(ints);
+    }
+
+    @Benchmark
+    public List<String> yesNoIfEven() {
+        return App.yesNoIfEven(ints);
+    }
+
+    @Benchmark
+    public int rangeOfNumbers() {
+        return App.rangeOfNumbers(ints);
+    }
+
+    @Benchmark
+    public int rangeOfNumbersArray() {
+        return App.rangeOfNumbers(array);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> groupByEvenOdd() {
+        return App.groupByEvenOdd(ints);
+    }
+
+    @Benchmark
+    public Optional<Integer> secondLargest() {
+        return App.secondLargest(ints);
+    }
+
+    @Benchmark
+    public List<Integer> doubleOdds() {
+        return App.doubleOdds(ints);
+    }
+
+    @Benchmark
+    public IntList doubleOddsArray() {
+        return App.doubleOdds(array);
+    }
+
+    @Benchmark
+    public List<Integer> replaceNegativesWithZero() {
+        return App.replaceNegativesWithZero(ints);
+    }
+
+    @Benchmark
+    public IntList replaceNegativesWithZeroArray() {
+        return App.replaceNegativesWithZero(array);
+    }
+
+    @Benchmark
+    public List<Integer> filterPerfectSquares() {
+        return App.filterPerfectSquares(ints);
+    }
+
+    @Benchmark
+    public int sumOfOdds() {
+        return App.sumOfOdds(ints);
+    }
+
+    @Benchmark
+    public int sumOfOddsArray() {
+        return App.sumOfOdds(array);
+    }
+
+    @Benchmark
+    public int sumExcludingExtremes() {
+        return App.sumExcludingExtremes(ints);
+    }
+
+    @Benchmark
+    public List<Integer> untilFirstZero() {
+        return App.untilFirstZero(ints);
+    }
+
+    @Benchmark
+    public String joinNumbersWithDash() {
+        return App.joinNumbersWithDash(ints);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitionPrimes() {
+        return App.partitionPrimes(ints);
+    }
+
+    @Benchmark
+    public int multiplyAll() {
+        return App.multiplyAll(ints);
+    }
+
+    @Benchmark
+    public int multiplyAllArray() {
+        return App.multiplyAll(array);
+    }
+
+    @Benchmark
+    public List<Integer> indicesOfNegatives() {
+        return App.indicesOfNegatives(ints);
+    }
+
+    @Benchmark
+    public IntList indicesOfNegativesArray() {
+        return App.indicesOfNegatives(array);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByDigitSum() {
+        return App.groupByDigitSum(ints);
+    }
+
+    @Benchmark
+    public List<Integer> setNegativesToAbsolute() {
+        return App.setNegativesToAbsolute(ints);
+    }
+
+    @Benchmark
+    public IntList setNegativesToAbsoluteArray() {
+        return App.setNegativesToAbsolute(array);
+    }
+
+    @Benchmark
+    public List<Integer> palindromicNumbers() {
+        return App.palindromicNumbers(ints);
+    }
+
+    @Benchmark
+    public List<Integer> filterFibonacci() {
+        return App.filterFibonacci(ints);
+    }
+
+    @Benchmark
+    public List<Integer> differences() {
+        return App.differences(ints);
+    }
+
+    @Benchmark
+    public IntList differencesArray() {
+        return App.differences(array);
+    }
+
+    @Benchmark
+    public int productOfEvens() {
+        return App.productOfEvens(ints);
+    }
+
+    @Benchmark
+    public int productOfEvensArray() {
+        return App.productOfEvens(array);
+    }
+
+    @Benchmark
+    public List<Integer> flattenIntegerLists() {
+        return App.flattenIntegerLists(nested);
+    }
+
+    @Benchmark
+    public List<Integer> removeMultiplesOf3Or5() {
+        return App.removeMultiplesOf3Or5(ints);
+    }
+
+    @Benchmark
+    public IntList removeMultiplesOf3Or5Array() {
+        return App.removeMultiplesOf3Or5(array);
+    }
+
+    @Benchmark
+    public List<Integer> top5Of100Random() {
+        return App.top5Of100Random();
+    }
+}
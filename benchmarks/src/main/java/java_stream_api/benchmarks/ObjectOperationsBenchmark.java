@@ -0,0 +1,140 @@
+package java_stream_api.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.Person;
+import java_stream_api.User;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// App operations over User and Person lists, plus the generic List<T> helpers.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ObjectOperationsBenchmark {
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "SORTED", "DUPLICATES"})
+    Shape shape;
+
+    List<User> users;
+    List<Person> persons;
+    List<String> strings;
+    List<Integer> ints;
+    List<String> withNulls;
+
+    @Setup
+    public void setUp() {
+        users = BenchmarkData.users(size, shape, 42);
+        persons = BenchmarkData.persons(size, shape, 43);
+        strings = BenchmarkData.strings(size, shape, 44);
+        ints = BenchmarkData.boxed(BenchmarkData.ints(size, shape, 45));
+        withNulls = BenchmarkData.withNulls(strings, 46);
+    }
+
+    // shuffleList works in place, so every invocation gets its own copy.
+    @State(Scope.Thread)
+    public static class ShuffleState {
+        List<String> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(ObjectOperationsBenchmark benchmark) {
+            list = new ArrayList<>(benchmark.strings);
+        }
+    }
+
+    @Benchmark
+    public List<String> namesOfUsersOlderThan18() {
+        return App.namesOfUsersOlderThan18(users);
+    }
+
+    @Benchmark
+    public List<User> sortUsersByAge() {
+        return App.sortUsersByAge(users);
+    }
+
+    @Benchmark
+    public Optional<User> userWithMaxAge() {
+        return App.userWithMaxAge(users);
+    }
+
+    @Benchmark
+    public int totalHobbiesCount() {
+        return App.totalHobbiesCount(users);
+    }
+
+    @Benchmark
+    public List<User> convertBirthdatesToString() {
+        return App.convertBirthdatesToString(users);
+    }
+
+    @Benchmark
+    public List<Person> filterPersonsByCity() {
+        return App.filterPersonsByCity(persons, "City X");
+    }
+
+    @Benchmark
+    public Map<Integer, List<User>> groupUsersByBirthYear() {
+        return App.groupUsersByBirthYear(users);
+    }
+
+    @Benchmark
+    public List<String> userNamesSortedByLength() {
+        return App.userNamesSortedByLength(users);
+    }
+
+    @Benchmark
+    public List<String> reverseList() {
+        return App.reverseList(strings);
+    }
+
+    @Benchmark
+    public long percentageOfNulls() {
+        return App.percentageOfNulls(withNulls);
+    }
+
+    @Benchmark
+    public List<String> shuffleList(ShuffleState state) {
+        App.shuffleList(state.list);
+        return state.list;
+    }
+
+    @Benchmark
+    public long countNullElements() {
+        return App.countNullElements(withNulls);
+    }
+
+    @Benchmark
+    public List<String> swapEvenOddIndexed() {
+        return App.swapEvenOddIndexed(strings);
+    }
+
+    @Benchmark
+    public List<String> lastNElements() {
+        return App.lastNElements(strings, 10);
+    }
+
+    @Benchmark
+    public List<Map.Entry<String, Integer>> zip() {
+        return App.zip(strings, ints);
+    }
+}
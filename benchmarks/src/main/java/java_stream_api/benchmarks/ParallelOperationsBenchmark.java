@@ -0,0 +1,138 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.IntList;
+import java_stream_api.ParallelPolicy;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Index-based and merge-heavy App operations run through a ParallelPolicy, sequential against
+// parallel. parallelism 0 is ParallelPolicy.SEQUENTIAL; other values use a pool of that size
+// with a threshold of 0, so that even the small sizes show the fork/join overhead.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ParallelOperationsBenchmark {
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "DUPLICATES"})
+    Shape shape;
+
+    @Param({"0", "2", "8"})
+    int parallelism;
+
+    ForkJoinPool pool;
+    ParallelPolicy policy;
+    int[] array;
+    List<Integer> ints;
+    List<String> strings;
+    List<String> sentences;
+
+    @Setup
+    public void setUp() {
+        if (parallelism == 0) {
+            policy = ParallelPolicy.SEQUENTIAL;
+        } else {
+            pool = new ForkJoinPool(parallelism);
+            policy = ParallelPolicy.of(pool, 0);
+        }
+        array = BenchmarkData.ints(size, shape, 42);
+        ints = BenchmarkData.boxed(array);
+        strings = BenchmarkData.strings(size, shape, 43);
+        sentences = BenchmarkData.sentences(size, shape, 44);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public List<String> selectEvery3rd() {
+        return policy.invoke(() -> App.selectEvery3rd(strings));
+    }
+
+    @Benchmark
+    public List<Integer> swapEvenOddIndexed() {
+        return policy.invoke(() -> App.swapEvenOddIndexed(ints));
+    }
+
+    @Benchmark
+    public List<Integer> differences() {
+        return policy.invoke(() -> App.differences(ints));
+    }
+
+    @Benchmark
+    public IntList differencesArray() {
+        return policy.invoke(() -> App.differences(array));
+    }
+
+    @Benchmark
+    public List<Integer> indicesOfNegatives() {
+        return policy.invoke(() -> App.indicesOfNegatives(ints));
+    }
+
+    @Benchmark
+    public IntList indicesOfNegativesArray() {
+        return policy.invoke(() -> App.indicesOfNegatives(array));
+    }
+
+    @Benchmark
+    public List<Integer> reverseList() {
+        return policy.invoke(() -> App.reverseList(ints));
+    }
+
+    @Benchmark
+    public List<Integer> listOfSquares() {
+        return policy.invoke(() -> App.listOfSquares(ints));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByRemainder3() {
+        return policy.invoke(() -> App.groupByRemainder3(ints));
+    }
+
+    @Benchmark
+    public int sumExcludingExtremes() {
+        return policy.invoke(() -> App.sumExcludingExtremes(array));
+    }
+
+    @Benchmark
+    public List<String> sortStringsByLength() {
+        return policy.invoke(() -> App.sortStringsByLength(strings));
+    }
+
+    @Benchmark
+    public Map<String, Long> lowerCaseFrequency() {
+        return policy.invoke(() -> App.lowerCaseFrequency(strings));
+    }
+
+    @Benchmark
+    public long totalWordsInSentences() {
+        return policy.invoke(() -> App.totalWordsInSentences(sentences));
+    }
+
+    @Benchmark
+    public List<String> uniqueSortedWords() {
+        return policy.invoke(() -> App.uniqueSortedWords(sentences));
+    }
+}
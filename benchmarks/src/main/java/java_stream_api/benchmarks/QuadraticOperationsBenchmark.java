@@ -0,0 +1,61 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Operations that are quadratic in a single input: list size for pairsThatSumTo, string length
+// for allSubstrings and getAllPrefixes. Kept to sizes that finish; at 10^6 a single call would
+// run for hours or allocate terabytes.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class QuadraticOperationsBenchmark {
+    @Param({"10", "1000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "SORTED", "DUPLICATES"})
+    Shape shape;
+
+    List<Integer> ints;
+    List<String> longString;
+    int target;
+
+    @Setup
+    public void setUp() {
+        ints = BenchmarkData.boxed(BenchmarkData.ints(size, shape, 42));
+        target = ints.get(0) + ints.get(ints.size() - 1);
+        String text = String.join("", BenchmarkData.strings(size, shape, 43));
+        longString = List.of(text.substring(0, Math.min(size, text.length())));
+    }
+
+    @Benchmark
+    public List<int[]> pairsThatSumTo() {
+        return App.pairsThatSumTo(ints, target);
+    }
+
+    @Benchmark
+    public List<String> allSubstringsOfLongString() {
+        return App.allSubstrings(longString);
+    }
+
+    @Benchmark
+    public List<String> getAllPrefixesOfLongString() {
+        return App.getAllPrefixes(longString);
+    }
+}
@@ -0,0 +1,261 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// App operations over List<String>.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class StringOperationsBenchmark {
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "SORTED", "DUPLICATES"})
+    Shape shape;
+
+    List<String> strings;
+    List<String> otherStrings;
+    // Collectors.toMap without a merge function rejects duplicate keys.
+    List<String> distinctStrings;
+
+    @Setup
+    public void setUp() {
+        strings = BenchmarkData.strings(size, shape, 42);
+        otherStrings = BenchmarkData.strings(size, shape, 43);
+        distinctStrings = BenchmarkData.distinctStrings(size, 44);
+    }
+
+    @Benchmark
+    public long findNumberOfElements() {
+        return App.findNumberOfElements(strings);
+    }
+
+    @Benchmark
+    public List<String> convertStringsToUppercase() {
+        return App.convertStringsToUppercase(strings);
+    }
+
+    @Benchmark
+    public List<String> filterStringsStartingWithA() {
+        return App.filterStringsStartingWithA(strings);
+    }
+
+    @Benchmark
+    public String concatenateStringsWithComma() {
+        return App.concatenateStringsWithComma(strings);
+    }
+
+    @Benchmark
+    public String getLastString() {
+        return App.getLastString(strings);
+    }
+
+    @Benchmark
+    public List<String> sortStringsByLength() {
+        return App.sortStringsByLength(strings);
+    }
+
+    @Benchmark
+    public boolean containsStringWithJava() {
+        return App.containsStringWithJava(strings);
+    }
+
+    @Benchmark
+    public List<String> mergeTwoStringLists() {
+        return App.mergeTwoStringLists(strings, otherStrings);
+    }
+
+    @Benchmark
+    public List<Integer> stringToAsciiCodes() {
+        return App.stringToAsciiCodes(strings);
+    }
+
+    @Benchmark
+    public long countStringsLongerThan5() {
+        return App.countStringsLongerThan5(strings);
+    }
+
+    @Benchmark
+    public Map<String, Integer> stringsToLengthMap() {
+        return App.stringsToLengthMap(distinctStrings);
+    }
+
+    @Benchmark
+    public boolean areAllStringsLongerThan3() {
+        return App.areAllStringsLongerThan3(strings);
+    }
+
+    @Benchmark
+    public List<String> selectEvery3rd() {
+        return App.selectEvery3rd(strings);
+    }
+
+    @Benchmark
+    public List<String> duplicateStrings() {
+        return App.duplicateStrings(strings);
+    }
+
+    @Benchmark
+    public Map<Integer, List<String>> groupStringsByLength() {
+        return App.groupStringsByLength(strings);
+    }
+
+    @Benchmark
+    public String longestString() {
+        return App.longestString(strings);
+    }
+
+    @Benchmark
+    public List<String> removeUsersWithJ() {
+        return App.removeUsersWithJ(strings);
+    }
+
+    @Benchmark
+    public List<Integer> lengthsDescending() {
+        return App.lengthsDescending(strings);
+    }
+
+    @Benchmark
+    public int sumStringLengths() {
+        return App.sumStringLengths(strings);
+    }
+
+    @Benchmark
+    public List<Character> uniqueSortedCharacters() {
+        return App.uniqueSortedCharacters(strings);
+    }
+
+    @Benchmark
+    public String firstLettersAsString() {
+        return App.firstLettersAsString(strings);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<String>> partitionByContainsDigit() {
+        return App.partitionByContainsDigit(strings);
+    }
+
+    @Benchmark
+    public List<String> removePalindromes() {
+        return App.removePalindromes(strings);
+    }
+
+    @Benchmark
+    public Optional<String> mostFrequentString() {
+        return App.mostFrequentString(strings);
+    }
+
+    @Benchmark
+    public List<String> removeBlankStrings() {
+        return App.removeBlankStrings(strings);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> lengthToCountMap() {
+        return App.lengthToCountMap(strings);
+    }
+
+    @Benchmark
+    public Optional<String> firstNonRepeatingString() {
+        return App.firstNonRepeatingString(strings);
+    }
+
+    @Benchmark
+    public List<String> capitalizeFirstLetter() {
+        return App.capitalizeFirstLetter(strings);
+    }
+
+    @Benchmark
+    public List<String> repeatStringsTwice() {
+        return App.repeatStringsTwice(strings);
+    }
+
+    @Benchmark
+    public Map<Character, List<String>> groupByFirstChar() {
+        return App.groupByFirstChar(strings);
+    }
+
+    @Benchmark
+    public List<String> nLongestStrings() {
+        return App.nLongestStrings(strings, 10);
+    }
+
+    @Benchmark
+    public Map<String, String> stringToReverse() {
+        return App.stringToReverse(distinctStrings);
+    }
+
+    @Benchmark
+    public List<String> getAllPrefixes() {
+        return App.getAllPrefixes(strings);
+    }
+
+    @Benchmark
+    public List<String> removeVowels() {
+        return App.removeVowels(strings);
+    }
+
+    @Benchmark
+    public Map<String, Long> vowelCounts() {
+        return App.vowelCounts(distinctStrings);
+    }
+
+    @Benchmark
+    public long countPalindromes() {
+        return App.countPalindromes(strings);
+    }
+
+    @Benchmark
+    public List<String> repeatByLength() {
+        return App.repeatByLength(strings);
+    }
+
+    @Benchmark
+    public boolean isSorted() {
+        return App.isSorted(strings);
+    }
+
+    @Benchmark
+    public List<String> allSubstrings() {
+        return App.allSubstrings(strings);
+    }
+
+    @Benchmark
+    public Map<String, Long> lowerCaseFrequency() {
+        return App.lowerCaseFrequency(strings);
+    }
+
+    @Benchmark
+    public long countEndsWithVowel() {
+        return App.countEndsWithVowel(strings);
+    }
+
+    @Benchmark
+    public List<Integer> stringLengths() {
+        return App.stringLengths(strings);
+    }
+
+    @Benchmark
+    public Map<Integer, String> longestStringForEachLength() {
+        return App.longestStringForEachLength(strings);
+    }
+}
@@ -0,0 +1,63 @@
+package java_stream_api.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java_stream_api.App;
+import java_stream_api.benchmarks.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// App operations over sentences; size is the number of sentences (1 to 15 words each).
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class TextOperationsBenchmark {
+    @Param({"10", "1000", "1000000"})
+    int size;
+
+    @Param({"UNIFORM", "SKEWED", "SORTED", "DUPLICATES"})
+    Shape shape;
+
+    List<String> sentences;
+    String text;
+
+    @Setup
+    public void setUp() {
+        sentences = BenchmarkData.sentences(size, shape, 42);
+        text = String.join(" ", sentences);
+    }
+
+    @Benchmark
+    public long totalWordsInSentences() {
+        return App.totalWordsInSentences(sentences);
+    }
+
+    @Benchmark
+    public Map<String, Long> wordFrequency() {
+        return App.wordFrequency(text);
+    }
+
+    @Benchmark
+    public Set<String> uniqueWords() {
+        return App.uniqueWords(sentences);
+    }
+
+    @Benchmark
+    public List<String> uniqueSortedWords() {
+        return App.uniqueSortedWords(sentences);
+    }
+}
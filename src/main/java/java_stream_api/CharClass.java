@@ -0,0 +1,86 @@
+package java_stream_api;
+
+import java.util.Arrays;
+
+// A fixed set of chars with table-driven membership, a regex-free replacement for character
+// classes like [AEIOUaeiou]. Chars up to 0xFF are looked up in a 256-entry table; the rare
+// members above it in a sorted array. The byte[] overloads take Latin-1 encoded text (one byte
+// per char, as in ISO-8859-1 files) and only ever use the table.
+public final class CharClass {
+    public static final CharClass VOWELS = of("AEIOUaeiou");
+    // The ASCII digits, which is what \d matches without UNICODE_CHARACTER_CLASS.
+    public static final CharClass DIGITS = range('0', '9');
+
+    private final boolean[] latin1 = new boolean[256];
+    private final char[] others;
+
+    private CharClass(CharSequence chars) {
+        StringBuilder above = new StringBuilder();
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c < 256) latin1[c] = true;
+            else above.append(c);
+        }
+        char[] sorted = above.toString().toCharArray();
+        Arrays.sort(sorted);
+        others = sorted;
+    }
+
+    public static CharClass of(CharSequence chars) {
+        return new CharClass(chars);
+    }
+
+    // Chars from through to, inclusive.
+    public static CharClass range(char from, char to) {
+        StringBuilder chars = new StringBuilder();
+        for (int c = from; c <= to; c++) chars.append((char) c);
+        return new CharClass(chars);
+    }
+
+    public boolean contains(char c) {
+        return c < 256 ? latin1[c] : others.length > 0 && Arrays.binarySearch(others, c) >= 0;
+    }
+
+    public boolean containsAny(CharSequence s) {
+        return indexIn(s) >= 0;
+    }
+
+    // Index of the first member char in s, or -1.
+    public int indexIn(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) if (contains(s.charAt(i))) return i;
+        return -1;
+    }
+
+    public int count(CharSequence s) {
+        int count = 0;
+        for (int i = 0; i < s.length(); i++) if (contains(s.charAt(i))) count++;
+        return count;
+    }
+
+    // s without its member chars; s itself when it has none.
+    public String removeAll(String s) {
+        int first = indexIn(s);
+        if (first < 0) return s;
+        char[] chars = s.toCharArray();
+        int length = first;
+        for (int i = first + 1; i < chars.length; i++) {
+            if (!contains(chars[i])) chars[length++] = chars[i];
+        }
+        return new String(chars, 0, length);
+    }
+
+    public boolean containsAny(byte[] latin1Text, int from, int to) {
+        return indexIn(latin1Text, from, to) >= 0;
+    }
+
+    public int indexIn(byte[] latin1Text, int from, int to) {
+        for (int i = from; i < to; i++) if (latin1[latin1Text[i] & 0xFF]) return i;
+        return -1;
+    }
+
+    public int count(byte[] latin1Text, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) if (latin1[latin1Text[i] & 0xFF]) count++;
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package java_stream_api;
+
+import java.util.Objects;
+
+// Zero-copy view of source[start, end). hashCode and equals follow String over the same
+// characters, so slices can be compared and hashed before (or instead of) materializing them.
+public final class CharSlice implements CharSequence, Comparable<CharSlice> {
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+
+    public CharSlice(CharSequence source, int start, int end) {
+        Objects.checkFromToIndex(start, end, source.length());
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    public CharSequence source() {
+        return source;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, end - start);
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public CharSlice subSequence(int from, int to) {
+        Objects.checkFromToIndex(from, to, end - start);
+        return new CharSlice(source, start + from, start + to);
+    }
+
+    // Whether the slice holds the same characters as s.
+    public boolean contentEquals(CharSequence s) {
+        int length = end - start;
+        if (s.length() != length) return false;
+        for (int i = 0; i < length; i++) if (source.charAt(start + i) != s.charAt(i)) return false;
+        return true;
+    }
+
+    @Override
+    public int compareTo(CharSlice other) {
+        // Not CharSequence.compare: it calls back into compareTo for same-class Comparables.
+        int length = Math.min(length(), other.length());
+        for (int i = 0; i < length; i++) {
+            int c = source.charAt(start + i) - other.source.charAt(other.start + i);
+            if (c != 0) return c;
+        }
+        return length() - other.length();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CharSlice && contentEquals((CharSlice) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(source, start, end);
+    }
+
+    // String.hashCode of source[start, end) without creating the String.
+    static int hashCode(CharSequence source, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) hash = 31 * hash + source.charAt(i);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return source.subSequence(start, end).toString();
+    }
+}
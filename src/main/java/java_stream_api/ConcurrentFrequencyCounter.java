@@ -0,0 +1,151 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+// String counts that many threads update at once, with no per-thread maps to merge. Each key
+// has a LongAdder in a ConcurrentHashMap: writers to different keys rarely share a lock, and
+// writers to one hot key spread over the adder's cells. Queries are weakly consistent: they
+// see every add that completed before they started, and possibly some that run alongside.
+// Ties go to the key that arrived first, as in StringFrequencyTable.
+public final class ConcurrentFrequencyCounter implements Consumer<String> {
+    private final ConcurrentHashMap<String, Count> counts;
+    private final AtomicLong arrivals = new AtomicLong();
+
+    public ConcurrentFrequencyCounter() {
+        counts = new ConcurrentHashMap<>();
+    }
+
+    public ConcurrentFrequencyCounter(int expectedSize) {
+        counts = new ConcurrentHashMap<>(expectedSize);
+    }
+
+    // A CONCURRENT, UNORDERED collector: a parallel stream adds straight into one counter.
+    public static Collector<String, ?, ConcurrentFrequencyCounter> collector() {
+        return Collector.of(
+                ConcurrentFrequencyCounter::new,
+                ConcurrentFrequencyCounter::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    public void add(String key) {
+        counter(key).increment();
+    }
+
+    public void add(String key, long count) {
+        counter(key).add(count);
+    }
+
+    @Override
+    public void accept(String key) {
+        add(key);
+    }
+
+    public void addAll(Iterable<String> keys) {
+        for (String key : keys) add(key);
+    }
+
+    // Adds a table counted privately by one thread, such as a batch of sentences passed
+    // through addLowerCaseWords; one update per distinct key instead of one per word.
+    public void addAll(StringFrequencyTable table) {
+        table.forEach(this::add);
+    }
+
+    public void addAll(ConcurrentFrequencyCounter other) {
+        for (Map.Entry<String, Count> entry : other.arrivalOrder()) {
+            add(entry.getKey(), entry.getValue().sum());
+        }
+    }
+
+    public long count(String key) {
+        Count count = counts.get(key);
+        return count == null ? 0 : count.sum();
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    // The key with the highest count; the first arrived one on ties.
+    public Optional<String> mostFrequent() {
+        String best = null;
+        long bestCount = 0;
+        long bestArrival = 0;
+        for (Map.Entry<String, Count> entry : counts.entrySet()) {
+            Count count = entry.getValue();
+            long sum = count.sum();
+            if (best == null
+                    || sum > bestCount
+                    || sum == bestCount && count.arrival < bestArrival) {
+                best = entry.getKey();
+                bestCount = sum;
+                bestArrival = count.arrival;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    // Keys with a count above threshold, in arrival order; above 1 gives the duplicates.
+    public List<String> keysWithCountAbove(long threshold) {
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, Count> entry : arrivalOrder()) {
+            if (entry.getValue().sum() > threshold) result.add(entry.getKey());
+        }
+        return result;
+    }
+
+    // The counts copied into a table, keys in arrival order.
+    public StringFrequencyTable snapshot() {
+        List<Map.Entry<String, Count>> entries = arrivalOrder();
+        StringFrequencyTable table = new StringFrequencyTable(entries.size());
+        for (Map.Entry<String, Count> entry : entries) {
+            table.add(entry.getKey(), entry.getValue().sum());
+        }
+        return table;
+    }
+
+    public Map<String, Long> toMap() {
+        return snapshot().toMap();
+    }
+
+    private Count counter(String key) {
+        // get first: computeIfAbsent locks the bin even when the key is present.
+        Count count = counts.get(key);
+        if (count != null) return count;
+        return counts.computeIfAbsent(key, k -> new Count(arrivals.getAndIncrement()));
+    }
+
+    private List<Map.Entry<String, Count>> arrivalOrder() {
+        List<Map.Entry<String, Count>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().arrival));
+        return entries;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Count extends LongAdder {
+        // Order in which keys were first added, for ties and ordered listings.
+        final long arrival;
+
+        Count(long arrival) {
+            this.arrival = arrival;
+        }
+    }
+}
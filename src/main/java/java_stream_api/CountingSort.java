@@ -0,0 +1,198 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+// Stable sorts by an int key in linear passes, for keys such as ages and string lengths. The key
+// range is measured first: when it spans at most 2^16 values and not many more than there are
+// elements, one counting pass sorts everything; otherwise LSD radix passes of 8 bits each, as
+// many as the range needs (at most 4). The parallel variants split every pass into chunks that
+// build their histograms and scatter concurrently, in the current ForkJoinPool.
+public final class CountingSort {
+    private static final int COUNTING_BITS = 16;
+    private static final int RADIX_BITS = 8;
+    // Elements per parallel chunk at least; a chunk also gets at least one per bucket.
+    private static final int MIN_CHUNK = 1 << 13;
+
+    private CountingSort() {}
+
+    // Positions 0 to keys.length - 1 ordered by key; equal keys keep their order.
+    public static int[] order(int[] keys) {
+        return order(keys, false);
+    }
+
+    public static int[] parallelOrder(int[] keys) {
+        return order(keys, true);
+    }
+
+    // list sorted by key into a new list, as sorted(Comparator.comparingInt(key)) would.
+    public static <T> List<T> sort(List<T> list, ToIntFunction<? super T> key) {
+        return sort(list, key, false);
+    }
+
+    public static <T> List<T> parallelSort(List<T> list, ToIntFunction<? super T> key) {
+        return sort(list, key, true);
+    }
+
+    // values in ascending order, in a new array. Equal ints are indistinguishable, so a small
+    // range only needs a histogram and no scatter; a wide one goes to Arrays.sort.
+    public static int[] sort(int[] values) {
+        return sort(values, false);
+    }
+
+    public static int[] parallelSort(int[] values) {
+        return sort(values, true);
+    }
+
+    // Collects into a list sorted by key. Sorts in parallel when the ParallelPolicy in effect
+    // treats the collected size as parallel.
+    public static <T> Collector<T, ?, List<T>> toSortedList(ToIntFunction<? super T> key) {
+        return Collector.<T, List<T>, List<T>>of(
+                ArrayList::new,
+                List::add,
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                list -> sort(list, key, ParallelPolicy.current().isParallel(list.size())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> sort(List<T> list, ToIntFunction<? super T> key, boolean parallel) {
+        Object[] elements = list.toArray();
+        int[] keys = new int[elements.length];
+        if (parallel) Arrays.parallelSetAll(keys, i -> key.applyAsInt((T) elements[i]));
+        else for (int i = 0; i < keys.length; i++) keys[i] = key.applyAsInt((T) elements[i]);
+        List<T> sorted = new ArrayList<>(elements.length);
+        for (int i : order(keys, parallel)) sorted.add((T) elements[i]);
+        return sorted;
+    }
+
+    private static int[] order(int[] keys, boolean parallel) {
+        int n = keys.length;
+        int[] src = new int[n];
+        if (parallel) Arrays.parallelSetAll(src, i -> i);
+        else Arrays.setAll(src, i -> i);
+        if (n < 2) return src;
+        int min = IntKernels.min(keys);
+        int bits = rangeBits(min, IntKernels.max(keys));
+        if (bits == 0) return src;
+        int digitBits = isCountingRange(bits, n) ? bits : RADIX_BITS;
+        int chunks = parallel ? chunkCount(n, 1 << digitBits) : 1;
+        int[] dst = new int[n];
+        for (int shift = 0; shift < bits; shift += digitBits) {
+            scatter(keys, src, dst, min, shift, (1 << digitBits) - 1, chunks);
+            int[] sorted = dst;
+            dst = src;
+            src = sorted;
+        }
+        return src;
+    }
+
+    // One stable pass: src in order of the digit at shift, into dst. Chunk c's elements of a
+    // bucket go after those of chunks before c, so order within a bucket is kept.
+    private static void scatter(
+            int[] keys, int[] src, int[] dst, int min, int shift, int mask, int chunks) {
+        int[][] offsets = new int[chunks][mask + 1];
+        forEachChunk(
+                src.length,
+                chunks,
+                (c, from, to) -> {
+                    int[] count = offsets[c];
+                    for (int i = from; i < to; i++) count[(keys[src[i]] - min) >>> shift & mask]++;
+                });
+        int next = 0;
+        for (int bucket = 0; bucket <= mask; bucket++) {
+            for (int[] offset : offsets) {
+                int count = offset[bucket];
+                offset[bucket] = next;
+                next += count;
+            }
+        }
+        forEachChunk(
+                src.length,
+                chunks,
+                (c, from, to) -> {
+                    int[] offset = offsets[c];
+                    for (int i = from; i < to; i++) {
+                        dst[offset[(keys[src[i]] - min) >>> shift & mask]++] = src[i];
+                    }
+                });
+    }
+
+    private static int[] sort(int[] values, boolean parallel) {
+        int n = values.length;
+        if (n < 2) return values.clone();
+        int min = IntKernels.min(values);
+        int bits = rangeBits(min, IntKernels.max(values));
+        if (!isCountingRange(bits, n)) {
+            int[] sorted = values.clone();
+            if (parallel) Arrays.parallelSort(sorted);
+            else Arrays.sort(sorted);
+            return sorted;
+        }
+        int chunks = parallel ? chunkCount(n, 1 << bits) : 1;
+        int[][] histograms = new int[chunks][1 << bits];
+        forEachChunk(
+                n,
+                chunks,
+                (c, from, to) -> {
+                    int[] histogram = histograms[c];
+                    for (int i = from; i < to; i++) histogram[values[i] - min]++;
+                });
+        int[] sorted = new int[n];
+        int next = 0;
+        for (int bucket = 0; bucket < 1 << bits; bucket++) {
+            int count = 0;
+            for (int[] histogram : histograms) count += histogram[bucket];
+            Arrays.fill(sorted, next, next + count, min + bucket);
+            next += count;
+        }
+        return sorted;
+    }
+
+    // Bits needed for max - min, which may exceed Integer.MAX_VALUE; read it unsigned.
+    private static int rangeBits(int min, int max) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(max - min);
+    }
+
+    // Whether one counting pass beats radix passes: the buckets must not dwarf the elements.
+    private static boolean isCountingRange(int bits, int n) {
+        return bits <= COUNTING_BITS && 1 << bits <= Math.max(n, 1 << RADIX_BITS);
+    }
+
+    private static int chunkCount(int n, int buckets) {
+        int parallelism =
+                ForkJoinTask.inForkJoinPool()
+                        ? ForkJoinTask.getPool().getParallelism()
+                        : ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(parallelism, n / Math.max(MIN_CHUNK, buckets)));
+    }
+
+    // Runs action over [0, n) split into chunks near-equal ranges, in parallel for chunks > 1.
+    private static void forEachChunk(int n, int chunks, ChunkAction action) {
+        if (chunks == 1) {
+            action.apply(0, 0, n);
+            return;
+        }
+        IntStream.range(0, chunks)
+                .parallel()
+                .forEach(
+                        c ->
+                                action.apply(
+                                        c,
+                                        (int) ((long) n * c / chunks),
+                                        (int) ((long) n * (c + 1) / chunks)));
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void apply(int chunk, int from, int to);
+    }
+}
@@ -0,0 +1,201 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Users' hobbies, dictionary-encoded: each distinct hobby string is stored once and gets a code,
+// and each code has a bitmap with one bit per user row (row i is the i-th user added). Queries
+// over several hobbies are word-wise AND/OR over the bitmaps, and counts are popcounts, so
+// nothing walks a hobby list. The number of users per hobby and the total hobby count (list
+// sizes, duplicates included, as totalHobbiesCount counts them) are kept up to date on add.
+// A null hobby counts toward that total but is not indexed, and no user has it.
+public final class HobbyIndex {
+    // Code = insertion position; the count is how often the hobby was listed.
+    private final StringFrequencyTable dictionary = new StringFrequencyTable();
+    private final List<long[]> bitmaps = new ArrayList<>();
+    private final IntList userCounts = new IntList();
+    private int size;
+    private long totalHobbies;
+
+    public static HobbyIndex of(List<User> users) {
+        HobbyIndex index = new HobbyIndex();
+        for (User user : users) index.add(user);
+        return index;
+    }
+
+    // Adds the user's hobbies as the next row and returns that row.
+    public int add(User user) {
+        return add(user.getHobbies());
+    }
+
+    public int add(Collection<String> hobbies) {
+        // Copied first, so a failing iterator leaves the index as it was.
+        String[] listed = hobbies.toArray(new String[0]);
+        int row = size;
+        int word = row >>> 6;
+        for (String hobby : listed) {
+            if (hobby == null) continue;
+            int code = dictionary.addAndGetIndex(hobby, 1);
+            if (code == bitmaps.size()) {
+                bitmaps.add(new long[0]);
+                userCounts.add(0);
+            }
+            long[] bitmap = bitmaps.get(code);
+            if (word >= bitmap.length) {
+                bitmap = Arrays.copyOf(bitmap, Math.max(word + 1, bitmap.length * 2));
+                bitmaps.set(code, bitmap);
+            }
+            if ((bitmap[word] & 1L << row) == 0) {
+                bitmap[word] |= 1L << row;
+                userCounts.set(code, userCounts.get(code) + 1);
+            }
+        }
+        totalHobbies += listed.length;
+        size = row + 1;
+        return row;
+    }
+
+    // Number of users (rows).
+    public int size() {
+        return size;
+    }
+
+    // The distinct hobbies, in order of first appearance.
+    public List<String> hobbies() {
+        return dictionary.keys();
+    }
+
+    public List<String> hobbiesOf(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+        List<String> hobbies = new ArrayList<>();
+        for (int code = 0; code < bitmaps.size(); code++) {
+            if (isSet(bitmaps.get(code), row)) hobbies.add(dictionary.keyAt(code));
+        }
+        return hobbies;
+    }
+
+    // Sum of all users' hobby list sizes, kept up to date on add.
+    public long totalHobbiesCount() {
+        return totalHobbies;
+    }
+
+    // Number of users listing hobby, O(1).
+    public int countUsersWith(String hobby) {
+        int code = codeOf(hobby);
+        return code < 0 ? 0 : userCounts.get(code);
+    }
+
+    public IntList usersWith(String hobby) {
+        int code = codeOf(hobby);
+        return code < 0 ? new IntList() : rows(bitmaps.get(code));
+    }
+
+    // Rows of the users listing every one of hobbies; every row for no hobbies.
+    public IntList usersWithAll(Collection<String> hobbies) {
+        return rows(all(hobbies));
+    }
+
+    public int countUsersWithAll(Collection<String> hobbies) {
+        return popCount(all(hobbies));
+    }
+
+    // Rows of the users listing at least one of hobbies.
+    public IntList usersWithAny(Collection<String> hobbies) {
+        return rows(any(hobbies));
+    }
+
+    public int countUsersWithAny(Collection<String> hobbies) {
+        return popCount(any(hobbies));
+    }
+
+    // Number of users listing both hobbies.
+    public int coOccurrence(String first, String second) {
+        return countUsersWithAll(List.of(first, second));
+    }
+
+    // For every other hobby shared by at least one user who lists hobby, how many such users.
+    public Map<String, Integer> coOccurrences(String hobby) {
+        Map<String, Integer> counts = new HashMap<>();
+        int code = codeOf(hobby);
+        if (code < 0) return counts;
+        long[] bitmap = bitmaps.get(code);
+        for (int other = 0; other < bitmaps.size(); other++) {
+            if (other == code) continue;
+            long[] otherBitmap = bitmaps.get(other);
+            int count = 0;
+            for (int w = Math.min(bitmap.length, otherBitmap.length) - 1; w >= 0; w--) {
+                count += Long.bitCount(bitmap[w] & otherBitmap[w]);
+            }
+            if (count > 0) counts.put(dictionary.keyAt(other), count);
+        }
+        return counts;
+    }
+
+    private long[] all(Collection<String> hobbies) {
+        long[] result = null;
+        for (String hobby : hobbies) {
+            int code = codeOf(hobby);
+            if (code < 0) return new long[0];
+            long[] bitmap = bitmaps.get(code);
+            if (result == null) {
+                result = bitmap.clone();
+            } else {
+                // Words past the shorter bitmap have no bits in it, so they AND to 0.
+                result = Arrays.copyOf(result, Math.min(result.length, bitmap.length));
+                for (int w = 0; w < result.length; w++) result[w] &= bitmap[w];
+            }
+        }
+        return result != null ? result : everyRow();
+    }
+
+    private long[] any(Collection<String> hobbies) {
+        long[] result = new long[0];
+        for (String hobby : hobbies) {
+            int code = codeOf(hobby);
+            if (code < 0) continue;
+            long[] bitmap = bitmaps.get(code);
+            if (bitmap.length > result.length) result = Arrays.copyOf(result, bitmap.length);
+            for (int w = 0; w < bitmap.length; w++) result[w] |= bitmap[w];
+        }
+        return result;
+    }
+
+    // The hobby's code, or -1 for a hobby nobody has.
+    private int codeOf(String hobby) {
+        return hobby == null ? -1 : dictionary.indexOf(hobby);
+    }
+
+    private long[] everyRow() {
+        long[] words = new long[(size + 63) >>> 6];
+        Arrays.fill(words, -1L);
+        if ((size & 63) != 0) words[words.length - 1] = (1L << size) - 1;
+        return words;
+    }
+
+    private static boolean isSet(long[] bitmap, int row) {
+        int word = row >>> 6;
+        return word < bitmap.length && (bitmap[word] & 1L << row) != 0;
+    }
+
+    private static IntList rows(long[] bitmap) {
+        IntList rows = new IntList(popCount(bitmap));
+        for (int w = 0; w < bitmap.length; w++) {
+            for (long bits = bitmap[w]; bits != 0; bits &= bits - 1) {
+                rows.add(w << 6 | Long.numberOfTrailingZeros(bits));
+            }
+        }
+        return rows;
+    }
+
+    private static int popCount(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) count += Long.bitCount(word);
+        return count;
+    }
+}
@@ -0,0 +1,288 @@
+package java_stream_api;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Base for collections that keep secondary indexes over their elements. Elements form a
+// doubly linked sequence in insertion order and are stamped in that order; every index bucket
+// holds entries in stamp order, so lookups return elements in the order a filter over the
+// collection would. Each element sits in one entry shared by all indexes, which keeps equal
+// elements apart and makes add and remove O(1) per index. Index keys must not change while an
+// element is in the collection. Null elements are rejected.
+// These are collections, not Lists: positional add and set would have to shift or re-stamp
+// entries, giving up the O(1) removal and the stamp order the indexes rely on. asList() gives
+// a read-only List view for callers that take a List.
+abstract class IndexedCollection<T> extends AbstractCollection<T> {
+    // Circular sentinel: head.next is the first entry, head.previous the last.
+    private final Entry<T> head = new Entry<>(null, -1);
+    // Equal elements' entries, first added first, for remove(Object) and contains.
+    private final Map<Object, Set<Entry<T>>> byValue = new HashMap<>();
+    private int size;
+    private long nextStamp;
+    private int modCount;
+
+    static final class Entry<T> {
+        final T value;
+        final long stamp;
+        Entry<T> previous = this;
+        Entry<T> next = this;
+
+        Entry(T value, long stamp) {
+            this.value = value;
+            this.stamp = stamp;
+        }
+    }
+
+    // Adds entry to every index. Must either complete or throw before changing any index,
+    // so read every key before the first put.
+    abstract void index(Entry<T> entry);
+
+    abstract void unindex(Entry<T> entry);
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Appends element. If an index key cannot be read, throws and leaves the collection as
+    // it was.
+    @Override
+    public boolean add(T element) {
+        Entry<T> entry = new Entry<>(Objects.requireNonNull(element, "element"), nextStamp);
+        index(entry);
+        try {
+            put(byValue, element, entry);
+        } catch (RuntimeException | Error e) {
+            unindex(entry);
+            throw e;
+        }
+        nextStamp++;
+        entry.previous = head.previous;
+        entry.next = head;
+        head.previous.next = entry;
+        head.previous = entry;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    // Removes the first added element equal to o.
+    @Override
+    public boolean remove(Object o) {
+        Set<Entry<T>> equal = byValue.get(o);
+        if (equal == null) return false;
+        unlink(equal.iterator().next());
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return byValue.containsKey(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Entry<T> next = head.next;
+            private Entry<T> last;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != head;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                if (next == head) throw new NoSuchElementException();
+                last = next;
+                next = next.next;
+                return last.value;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+                if (modCount != expectedModCount) throw new ConcurrentModificationException();
+                unlink(last);
+                last = null;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+    // A read-only List view in insertion order that follows later changes. get(i) walks the
+    // links from the nearer end, so iterate rather than index.
+    public List<T> asList() {
+        return new ListView();
+    }
+
+    private void unlink(Entry<T> entry) {
+        unindex(entry);
+        remove(byValue, entry.value, entry);
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+        size--;
+        modCount++;
+    }
+
+    private final class ListView extends AbstractSequentialList<T> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return IndexedCollection.this.contains(o);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return new ViewIterator(index);
+        }
+    }
+
+    private final class ViewIterator implements ListIterator<T> {
+        private Entry<T> next;
+        private int nextIndex;
+        private final int expectedModCount = modCount;
+
+        ViewIterator(int index) {
+            next = head;
+            if (index <= size / 2) {
+                for (int i = -1; i < index; i++) next = next.next;
+            } else {
+                for (int i = size; i > index; i--) next = next.previous;
+            }
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != head;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (next == head) throw new NoSuchElementException();
+            T value = next.value;
+            next = next.next;
+            nextIndex++;
+            return value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return next.previous != head;
+        }
+
+        @Override
+        public T previous() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (next.previous == head) throw new NoSuchElementException();
+            next = next.previous;
+            nextIndex--;
+            return next.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Read-only view");
+        }
+
+        @Override
+        public void set(T value) {
+            throw new UnsupportedOperationException("Read-only view");
+        }
+
+        @Override
+        public void add(T value) {
+            throw new UnsupportedOperationException("Read-only view");
+        }
+    }
+
+    static <K, T> void put(Map<K, Set<Entry<T>>> index, K key, Entry<T> entry) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(entry);
+    }
+
+    static <K, T> void remove(Map<K, Set<Entry<T>>> index, K key, Entry<T> entry) {
+        Set<Entry<T>> bucket = index.get(key);
+        bucket.remove(entry);
+        if (bucket.isEmpty()) index.remove(key);
+    }
+
+    // The elements of one bucket, in collection order; empty for a missing bucket.
+    static <T> List<T> values(Set<Entry<T>> bucket) {
+        List<T> values = new ArrayList<>(bucket == null ? 0 : bucket.size());
+        if (bucket != null) for (Entry<T> entry : bucket) values.add(entry.value);
+        return values;
+    }
+
+    // The elements of several buckets in collection order. Each bucket is already in stamp
+    // order, so a k-way merge takes O(k log b) for k entries in b non-empty buckets.
+    static <T> List<T> inOrder(Collection<Set<Entry<T>>> buckets) {
+        if (buckets.size() == 1) return values(buckets.iterator().next());
+        PriorityQueue<Cursor<T>> cursors =
+                new PriorityQueue<>(
+                        Math.max(1, buckets.size()),
+                        Comparator.comparingLong(cursor -> cursor.entry.stamp));
+        int total = 0;
+        for (Set<Entry<T>> bucket : buckets) {
+            total += bucket.size();
+            Cursor<T> cursor = new Cursor<>(bucket.iterator());
+            if (cursor.advance()) cursors.add(cursor);
+        }
+        List<T> merged = new ArrayList<>(total);
+        while (!cursors.isEmpty()) {
+            Cursor<T> cursor = cursors.poll();
+            merged.add(cursor.entry.value);
+            if (cursor.advance()) cursors.add(cursor);
+        }
+        return merged;
+    }
+
+    private static final class Cursor<T> {
+        private final Iterator<Entry<T>> rest;
+        Entry<T> entry;
+
+        Cursor(Iterator<Entry<T>> rest) {
+            this.rest = rest;
+        }
+
+        boolean advance() {
+            if (!rest.hasNext()) return false;
+            entry = rest.next();
+            return true;
+        }
+    }
+}
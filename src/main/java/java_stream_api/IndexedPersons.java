@@ -0,0 +1,40 @@
+package java_stream_api;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// A collection of persons that keeps a city hash index up to date on every add and remove, so
+// a city lookup costs O(k) for k matches instead of a scan. Not thread-safe, but any number of
+// threads may query while nobody modifies it.
+public final class IndexedPersons extends IndexedCollection<Person> {
+    private final Map<String, Set<Entry<Person>>> byCity = new HashMap<>();
+
+    public IndexedPersons() {}
+
+    public IndexedPersons(Collection<? extends Person> persons) {
+        addAll(persons);
+    }
+
+    @Override
+    void index(Entry<Person> entry) {
+        put(byCity, entry.value.getCity(), entry);
+    }
+
+    @Override
+    void unindex(Entry<Person> entry) {
+        remove(byCity, entry.value.getCity(), entry);
+    }
+
+    // Persons living in city, in insertion order.
+    public List<Person> inCity(String city) {
+        return values(byCity.get(city));
+    }
+
+    public int countInCity(String city) {
+        Set<Entry<Person>> bucket = byCity.get(city);
+        return bucket == null ? 0 : bucket.size();
+    }
+}
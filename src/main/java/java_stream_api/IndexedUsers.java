@@ -0,0 +1,87 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+// A collection of users that keeps an age-sorted index and a birth-year index up to date on
+// every add and remove, each O(log n) at most. Results come in insertion order. Age-range
+// queries cost O(log n + k log b) for k matches over b distinct ages, not O(log n + k): each
+// age bucket is in insertion order, and restoring that order across buckets takes a k-way
+// merge. b is at most the number of distinct ages, a few hundred. Birth-year lookups are O(k)
+// and the oldest user is O(log n). Not thread-safe, but any number of threads may query while
+// nobody modifies it.
+public final class IndexedUsers extends IndexedCollection<User> {
+    private final NavigableMap<Integer, Set<Entry<User>>> byAge = new TreeMap<>();
+    private final Map<Integer, Set<Entry<User>>> byBirthYear = new HashMap<>();
+
+    public IndexedUsers() {}
+
+    public IndexedUsers(Collection<? extends User> users) {
+        addAll(users);
+    }
+
+    @Override
+    void index(Entry<User> entry) {
+        int age = entry.value.getAge();
+        int birthYear = entry.value.getBirthYear();
+        put(byAge, age, entry);
+        put(byBirthYear, birthYear, entry);
+    }
+
+    @Override
+    void unindex(Entry<User> entry) {
+        remove(byAge, entry.value.getAge(), entry);
+        remove(byBirthYear, entry.value.getBirthYear(), entry);
+    }
+
+    // Users with from <= age <= to.
+    public List<User> withAgeBetween(int from, int to) {
+        if (from > to) return new ArrayList<>();
+        return inOrder(byAge.subMap(from, true, to, true).values());
+    }
+
+    public List<User> olderThan(int age) {
+        return inOrder(byAge.tailMap(age, false).values());
+    }
+
+    public List<String> namesOlderThan(int age) {
+        List<User> users = olderThan(age);
+        List<String> names = new ArrayList<>(users.size());
+        for (User user : users) names.add(user.getName());
+        return names;
+    }
+
+    // The first added user among the oldest.
+    public Optional<User> oldest() {
+        Map.Entry<Integer, Set<Entry<User>>> last = byAge.lastEntry();
+        return last == null
+                ? Optional.empty()
+                : Optional.of(last.getValue().iterator().next().value);
+    }
+
+    // Users by ascending age, in insertion order within an age: the order a stable sort gives.
+    public List<User> sortedByAge() {
+        List<User> sorted = new ArrayList<>(size());
+        for (Set<Entry<User>> bucket : byAge.values()) {
+            for (Entry<User> entry : bucket) sorted.add(entry.value);
+        }
+        return sorted;
+    }
+
+    public List<User> bornIn(int year) {
+        return values(byBirthYear.get(year));
+    }
+
+    public Map<Integer, List<User>> groupByBirthYear() {
+        Map<Integer, List<User>> groups = HashMap.newHashMap(byBirthYear.size());
+        byBirthYear.forEach((year, bucket) -> groups.put(year, values(bucket)));
+        return groups;
+    }
+}
@@ -0,0 +1,45 @@
+package java_stream_api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+// Growable int column in native-order direct memory, outside the Java heap, for the columnar
+// stores. Absolute get/put only, so concurrent readers of a column that is no longer growing
+// need no synchronization.
+final class IntColumn {
+    private IntBuffer values;
+    private int size;
+
+    IntColumn(int initialCapacity) {
+        values = allocate(Math.max(16, initialCapacity));
+    }
+
+    void add(int value) {
+        if (size == values.capacity()) grow();
+        values.put(size++, value);
+    }
+
+    int get(int index) {
+        return values.get(index);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        if (size == Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalStateException("Column full: " + size);
+        }
+        IntBuffer grown = allocate((int) Math.min(Integer.MAX_VALUE / Integer.BYTES, 2L * size));
+        grown.put(0, values, 0, size);
+        values = grown;
+    }
+
+    private static IntBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+}
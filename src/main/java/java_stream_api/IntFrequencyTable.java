@@ -0,0 +1,108 @@
+package java_stream_api;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+// int -> count table laid out like StringFrequencyTable: dense key and count arrays in
+// first-insertion order behind an open-addressing int index. Memory follows the number of
+// distinct keys, not their magnitude. Works as a mergeable Stream.collect container.
+public class IntFrequencyTable implements IntConsumer {
+    private int[] keys;
+    private long[] counts;
+    private int size;
+    // Slot value is entry index + 1; 0 marks an empty slot. Kept at most half full.
+    private int[] slots;
+    private int shift;
+
+    public IntFrequencyTable() {
+        this(16);
+    }
+
+    public IntFrequencyTable(int expectedSize) {
+        int capacity = Math.max(8, expectedSize);
+        keys = new int[capacity];
+        counts = new long[capacity];
+        resize(Integer.highestOneBit(capacity * 2 - 1) * 2);
+    }
+
+    public void add(int key) {
+        add(key, 1);
+    }
+
+    public void add(int key, long count) {
+        int mask = slots.length - 1;
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                slots[slot] = append(key, count) + 1;
+                if (size * 2 > slots.length) resize(slots.length * 2);
+                return;
+            }
+            if (keys[entry] == key) {
+                counts[entry] += count;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void accept(int key) {
+        add(key, 1);
+    }
+
+    // Adds other's counts; keys new to this table are appended in other's insertion order.
+    public void addAll(IntFrequencyTable other) {
+        for (int i = 0; i < other.size; i++) add(other.keys[i], other.counts[i]);
+    }
+
+    public long count(int key) {
+        int mask = slots.length - 1;
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) return 0;
+            if (keys[entry] == key) return counts[entry];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Map<Integer, Long> toMap() {
+        Map<Integer, Long> map = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) map.put(keys[i], counts[i]);
+        return map;
+    }
+
+    private int append(int key, long count) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        keys[size] = key;
+        counts[size] = count;
+        return size++;
+    }
+
+    private void resize(int capacity) {
+        slots = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(keys[i]);
+            while (slots[slot] != 0) slot = (slot + 1) & mask;
+            slots[slot] = i + 1;
+        }
+    }
+
+    // Fibonacci hashing, as in StringFrequencyTable.
+    private int slotOf(int key) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+}
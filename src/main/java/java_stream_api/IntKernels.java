@@ -0,0 +1,294 @@
+package java_stream_api;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+// Element-wise int kernels behind the int[] overloads in App. Uses lane-parallel code from
+// VectorIntKernels when the library was built with the vector profile (mvn -Pvector) and the
+// jdk.incubator.vector module is present at runtime (run with --add-modules
+// jdk.incubator.vector), and the scalar loops below otherwise. VectorIntKernels is loaded by
+// name, so nothing else needs the incubator module to compile or run.
+// Set -Djava_stream_api.vector=false to force the scalar path.
+// When the ParallelPolicy in effect treats the input size as parallel, the array is split into
+// index ranges that run concurrently; map results are written in place, filter results are
+// concatenated in range order and reductions are combined, so results match sequential ones.
+public final class IntKernels {
+    // Elements per parallel chunk at least.
+    private static final int MIN_CHUNK = 1 << 13;
+    private static final Kernels KERNELS = load();
+
+    private IntKernels() {}
+
+    public static boolean isVectorized() {
+        return KERNELS.isVectorized();
+    }
+
+    public static IntList filterEven(int[] ints) {
+        return filter(ints, KERNELS::filterEven);
+    }
+
+    public static IntList filterOdd(int[] ints) {
+        return filter(ints, KERNELS::filterOdd);
+    }
+
+    public static IntList squares(int[] ints) {
+        return map(ints, KERNELS::squares);
+    }
+
+    public static IntList doubleOdds(int[] ints) {
+        return map(ints, KERNELS::doubleOdds);
+    }
+
+    public static IntList clampNegatives(int[] ints) {
+        return map(ints, KERNELS::clampNegatives);
+    }
+
+    public static IntList abs(int[] ints) {
+        return map(ints, KERNELS::abs);
+    }
+
+    public static IntList removeMultiplesOf3Or5(int[] ints) {
+        return filter(ints, KERNELS::removeMultiplesOf3Or5);
+    }
+
+    // Wrapping int sum, as IntStream.sum().
+    public static int sum(int[] ints) {
+        return reduce(ints, KERNELS::sum, Integer::sum);
+    }
+
+    // Integer.MAX_VALUE for an empty array.
+    public static int min(int[] ints) {
+        return reduce(ints, KERNELS::min, Math::min);
+    }
+
+    // Integer.MIN_VALUE for an empty array.
+    public static int max(int[] ints) {
+        return reduce(ints, KERNELS::max, Math::max);
+    }
+
+    // IntStats of the whole array, chunked like the kernels.
+    static IntStats stats(int[] ints) {
+        int n = ints.length;
+        int chunks = chunks(n);
+        if (chunks == 1) return IntStats.of(ints);
+        int[] bounds = bounds(n, chunks);
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> IntStats.of(ints, bounds[c], bounds[c + 1]))
+                .reduce(
+                        (left, right) -> {
+                            left.combine(right);
+                            return left;
+                        })
+                .get();
+    }
+
+    private static IntList map(int[] ints, MapKernel kernel) {
+        int n = ints.length;
+        IntList result = new IntList(n);
+        int[] out = result.elements;
+        int chunks = chunks(n);
+        if (chunks == 1) {
+            kernel.apply(ints, 0, n, out);
+        } else {
+            int[] bounds = bounds(n, chunks);
+            IntStream.range(0, chunks)
+                    .parallel()
+                    .forEach(c -> kernel.apply(ints, bounds[c], bounds[c + 1], out));
+        }
+        result.size = n;
+        return result;
+    }
+
+    private static IntList filter(int[] ints, FilterKernel kernel) {
+        int n = ints.length;
+        int chunks = chunks(n);
+        if (chunks == 1) return kernel.apply(ints, 0, n);
+        int[] bounds = bounds(n, chunks);
+        IntList[] parts = new IntList[chunks];
+        IntStream.range(0, chunks)
+                .parallel()
+                .forEach(c -> parts[c] = kernel.apply(ints, bounds[c], bounds[c + 1]));
+        int size = 0;
+        for (IntList part : parts) size += part.size;
+        IntList result = new IntList(size);
+        for (IntList part : parts) result.addAll(part);
+        return result;
+    }
+
+    private static int reduce(int[] ints, ReduceKernel kernel, IntBinaryOperator combiner) {
+        int n = ints.length;
+        int chunks = chunks(n);
+        if (chunks == 1) return kernel.apply(ints, 0, n);
+        int[] bounds = bounds(n, chunks);
+        return IntStream.range(0, chunks)
+                .parallel()
+                .map(c -> kernel.apply(ints, bounds[c], bounds[c + 1]))
+                .reduce(combiner)
+                .getAsInt();
+    }
+
+    // 1 unless the ParallelPolicy in effect runs n elements in parallel; then one chunk per
+    // worker of the current pool, each of at least MIN_CHUNK elements.
+    private static int chunks(int n) {
+        if (!ParallelPolicy.current().isParallel(n)) return 1;
+        int parallelism =
+                ForkJoinTask.inForkJoinPool()
+                        ? ForkJoinTask.getPool().getParallelism()
+                        : ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(parallelism, n / MIN_CHUNK));
+    }
+
+    // Chunk c of n elements split into near-equal ranges is [bounds[c], bounds[c + 1]).
+    private static int[] bounds(int n, int chunks) {
+        int[] bounds = new int[chunks + 1];
+        for (int c = 0; c <= chunks; c++) bounds[c] = (int) ((long) n * c / chunks);
+        return bounds;
+    }
+
+    private static Kernels load() {
+        Kernels scalar = new Kernels() {};
+        if (!vectorModulePresent()) return scalar;
+        try {
+            Kernels vector =
+                    (Kernels)
+                            Class.forName("java_stream_api.VectorIntKernels")
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+            return vector.isVectorized() ? vector : scalar;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector profile.
+            return scalar;
+        }
+    }
+
+    private static boolean vectorModulePresent() {
+        return Boolean.parseBoolean(System.getProperty("java_stream_api.vector", "true"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    @FunctionalInterface
+    private interface MapKernel {
+        void apply(int[] ints, int from, int to, int[] out);
+    }
+
+    @FunctionalInterface
+    private interface FilterKernel {
+        IntList apply(int[] ints, int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface ReduceKernel {
+        int apply(int[] ints, int from, int to);
+    }
+
+    // One implementation of every kernel; the defaults are the scalar loops. All of them read
+    // ints[from, to). Map kernels write out[i] for every i in that range, filter kernels return
+    // the kept values in order.
+    interface Kernels {
+        default boolean isVectorized() {
+            return false;
+        }
+
+        default IntList filterEven(int[] ints, int from, int to) {
+            return Scalar.filterEven(ints, from, to);
+        }
+
+        default IntList filterOdd(int[] ints, int from, int to) {
+            return Scalar.filterOdd(ints, from, to);
+        }
+
+        default void squares(int[] ints, int from, int to, int[] out) {
+            Scalar.squares(ints, from, to, out);
+        }
+
+        default void doubleOdds(int[] ints, int from, int to, int[] out) {
+            Scalar.doubleOdds(ints, from, to, out);
+        }
+
+        default void clampNegatives(int[] ints, int from, int to, int[] out) {
+            Scalar.clampNegatives(ints, from, to, out);
+        }
+
+        default void abs(int[] ints, int from, int to, int[] out) {
+            Scalar.abs(ints, from, to, out);
+        }
+
+        default IntList removeMultiplesOf3Or5(int[] ints, int from, int to) {
+            return Scalar.removeMultiplesOf3Or5(ints, from, to);
+        }
+
+        default int sum(int[] ints, int from, int to) {
+            return Scalar.sum(ints, from, to);
+        }
+
+        default int min(int[] ints, int from, int to) {
+            return Scalar.min(ints, from, to);
+        }
+
+        default int max(int[] ints, int from, int to) {
+            return Scalar.max(ints, from, to);
+        }
+    }
+
+    static final class Scalar {
+        private Scalar() {}
+
+        static IntList filterEven(int[] ints, int from, int to) {
+            IntList result = new IntList();
+            for (int i = from; i < to; i++) if ((ints[i] & 1) == 0) result.add(ints[i]);
+            return result;
+        }
+
+        static IntList filterOdd(int[] ints, int from, int to) {
+            IntList result = new IntList();
+            for (int i = from; i < to; i++) if ((ints[i] & 1) != 0) result.add(ints[i]);
+            return result;
+        }
+
+        static void squares(int[] ints, int from, int to, int[] out) {
+            for (int i = from; i < to; i++) out[i] = ints[i] * ints[i];
+        }
+
+        static void doubleOdds(int[] ints, int from, int to, int[] out) {
+            for (int i = from; i < to; i++) out[i] = (ints[i] & 1) != 0 ? ints[i] * 2 : ints[i];
+        }
+
+        static void clampNegatives(int[] ints, int from, int to, int[] out) {
+            for (int i = from; i < to; i++) out[i] = Math.max(ints[i], 0);
+        }
+
+        static void abs(int[] ints, int from, int to, int[] out) {
+            for (int i = from; i < to; i++) out[i] = Math.abs(ints[i]);
+        }
+
+        static IntList removeMultiplesOf3Or5(int[] ints, int from, int to) {
+            IntList result = new IntList();
+            for (int i = from; i < to; i++) {
+                int n = ints[i];
+                if (n % 3 != 0 && n % 5 != 0) result.add(n);
+            }
+            return result;
+        }
+
+        static int sum(int[] ints, int from, int to) {
+            int sum = 0;
+            for (int i = from; i < to; i++) sum += ints[i];
+            return sum;
+        }
+
+        static int min(int[] ints, int from, int to) {
+            int min = Integer.MAX_VALUE;
+            for (int i = from; i < to; i++) if (ints[i] < min) min = ints[i];
+            return min;
+        }
+
+        static int max(int[] ints, int from, int to) {
+            int max = Integer.MIN_VALUE;
+            for (int i = from; i < to; i++) if (ints[i] > max) max = ints[i];
+            return max;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package java_stream_api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Growable list of primitive ints: 4 bytes per element instead of a boxed Integer per element.
+public class IntList implements IntConsumer {
+    private static final int[] EMPTY = {};
+
+    int[] elements;
+    int size;
+
+    public IntList() {
+        elements = EMPTY;
+    }
+
+    public IntList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    public static IntList of(int... ints) {
+        IntList list = new IntList(ints.length);
+        System.arraycopy(ints, 0, list.elements, 0, ints.length);
+        list.size = ints.length;
+        return list;
+    }
+
+    // An unmodifiable copy of list, as List.copyOf: add, addAll, set and clear throw.
+    // Unmodifiable lists are returned as they are.
+    public static IntList copyOf(IntList list) {
+        return list instanceof Unmodifiable ? list : new Unmodifiable(list.toArray());
+    }
+
+    public void add(int value) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    @Override
+    public void accept(int value) {
+        add(value);
+    }
+
+    public void addAll(IntList other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.elements, 0, elements, size, other.size);
+        size += other.size;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        elements[index] = value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) grow(minCapacity);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    public List<Integer> boxed() {
+        return stream().boxed().toList();
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(10, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(minCapacity, newCapacity));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IntList)) return false;
+        IntList other = (IntList) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) hash = 31 * hash + elements[i];
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static final class Unmodifiable extends IntList {
+        Unmodifiable(int[] ints) {
+            elements = ints;
+            size = ints.length;
+        }
+
+        @Override
+        public void add(int value) {
+            throw new UnsupportedOperationException("Unmodifiable IntList");
+        }
+
+        @Override
+        public void addAll(IntList other) {
+            throw new UnsupportedOperationException("Unmodifiable IntList");
+        }
+
+        @Override
+        public void set(int index, int value) {
+            throw new UnsupportedOperationException("Unmodifiable IntList");
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("Unmodifiable IntList");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package java_stream_api;
+
+// Receives two ints without boxing them or wrapping them in an array.
+@FunctionalInterface
+public interface IntPairConsumer {
+    void accept(int first, int second);
+}
@@ -0,0 +1,128 @@
+package java_stream_api;
+
+import java.nio.IntBuffer;
+import java.util.function.IntConsumer;
+
+// Fused single-pass statistics over primitive ints: count, sum, min, max, average, range,
+// sum of odd values and (wrapping) product. Usable as an IntStream collector container.
+public class IntStats implements IntConsumer {
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    private long oddSum;
+    private int product = 1;
+
+    public static IntStats of(int[] ints) {
+        return of(ints, 0, ints.length);
+    }
+
+    public static IntStats of(int[] ints, int from, int to) {
+        IntStats stats = new IntStats();
+        long sum = 0, oddSum = 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE, product = 1;
+        for (int i = from; i < to; i++) {
+            int n = ints[i];
+            sum += n;
+            if (n < min) min = n;
+            if (n > max) max = n;
+            if ((n & 1) != 0) oddSum += n;
+            product *= n;
+        }
+        stats.count = to - from;
+        stats.sum = sum;
+        stats.min = min;
+        stats.max = max;
+        stats.oddSum = oddSum;
+        stats.product = product;
+        return stats;
+    }
+
+    // Reads the remaining elements of the buffer without moving its position.
+    public static IntStats of(IntBuffer buffer) {
+        if (buffer.hasArray()) {
+            int from = buffer.arrayOffset() + buffer.position();
+            return of(buffer.array(), from, from + buffer.remaining());
+        }
+        IntStats stats = new IntStats();
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            stats.accept(buffer.get(i));
+        }
+        return stats;
+    }
+
+    @Override
+    public void accept(int n) {
+        count++;
+        sum += n;
+        if (n < min) min = n;
+        if (n > max) max = n;
+        if ((n & 1) != 0) oddSum += n;
+        product *= n;
+    }
+
+    public void combine(IntStats other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        oddSum += other.oddSum;
+        product *= other.product;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    // Integer.MAX_VALUE when empty.
+    public int getMin() {
+        return min;
+    }
+
+    // Integer.MIN_VALUE when empty.
+    public int getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    // 0 when empty.
+    public int getRange() {
+        return count == 0 ? 0 : max - min;
+    }
+
+    public long getOddSum() {
+        return oddSum;
+    }
+
+    public int getProduct() {
+        return product;
+    }
+
+    @Override
+    public String toString() {
+        return "IntStats{count="
+                + count
+                + ", sum="
+                + sum
+                + ", min="
+                + min
+                + ", max="
+                + max
+                + ", average="
+                + getAverage()
+                + ", range="
+                + getRange()
+                + ", oddSum="
+                + oddSum
+                + ", product="
+                + product
+                + "}";
+    }
+}
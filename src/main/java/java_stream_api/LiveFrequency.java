@@ -0,0 +1,58 @@
+package java_stream_api;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// String counts kept up to date as values arrive, with the most frequent string tracked on
+// every accept in O(1) (amortized, for the table). Ties go to the string seen first, as in
+// App.mostFrequentString. The leader is published through a volatile field, so reading it
+// never locks; full count snapshots copy the table under the lock.
+public final class LiveFrequency implements Consumer<String> {
+    private final StringFrequencyTable table = new StringFrequencyTable();
+    private volatile Leader leader;
+
+    @Override
+    public synchronized void accept(String s) {
+        int index = table.addAndGetIndex(s, 1);
+        long count = table.countAt(index);
+        Leader current = leader;
+        // Only s gained, so the leader is either unchanged or s.
+        if (current == null
+                || count > current.count
+                || count == current.count && index < current.index) {
+            leader = new Leader(index, table.keyAt(index), count);
+        }
+    }
+
+    public Optional<String> mostFrequent() {
+        Leader current = leader;
+        return current == null ? Optional.empty() : Optional.of(current.key);
+    }
+
+    // The count of the most frequent string; 0 before anything was accepted.
+    public long maxCount() {
+        Leader current = leader;
+        return current == null ? 0 : current.count;
+    }
+
+    public synchronized long count(String s) {
+        return table.count(s);
+    }
+
+    public synchronized Map<String, Long> snapshot() {
+        return table.toMap();
+    }
+
+    private static final class Leader {
+        final int index;
+        final String key;
+        final long count;
+
+        Leader(int index, String key, long count) {
+            this.index = index;
+            this.key = key;
+            this.count = count;
+        }
+    }
+}
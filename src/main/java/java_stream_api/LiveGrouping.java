@@ -0,0 +1,77 @@
+package java_stream_api;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// groupingBy kept up to date as values arrive; new LiveGrouping<>(String::length) is a live
+// groupStringsByLength. Groups are append-only arrays, so a snapshot only records each
+// group's array and size: O(number of groups), no element copying, and later accepts never
+// show up in it.
+public final class LiveGrouping<K, T> implements Consumer<T> {
+    private final Function<? super T, ? extends K> classifier;
+    private final Map<K, Group> groups = new HashMap<>();
+
+    public LiveGrouping(Function<? super T, ? extends K> classifier) {
+        this.classifier = Objects.requireNonNull(classifier, "classifier");
+    }
+
+    @Override
+    public void accept(T value) {
+        K key = classifier.apply(value);
+        synchronized (this) {
+            groups.computeIfAbsent(key, k -> new Group()).add(value);
+        }
+    }
+
+    // Unmodifiable groups as of now, in arrival order within each group.
+    public synchronized Map<K, List<T>> snapshot() {
+        Map<K, List<T>> snapshot = HashMap.newHashMap(groups.size());
+        groups.forEach((key, group) -> snapshot.put(key, group.view()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private final class Group {
+        // Slots below size are written once and never changed; growing copies the array.
+        private Object[] elements = new Object[4];
+        private int size;
+
+        void add(T value) {
+            if (size == elements.length) elements = Arrays.copyOf(elements, size * 2);
+            elements[size++] = value;
+        }
+
+        List<T> view() {
+            return new View<>(elements, size);
+        }
+    }
+
+    private static final class View<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        View(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package java_stream_api;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+// IntStats kept up to date as values arrive, for sums, averages and extremes over data that
+// is pushed in rather than held in a list. Each accept is O(1). Snapshots are consistent
+// copies taken with an optimistic read, so readers normally neither block nor slow down
+// writers.
+public final class LiveIntStats implements IntConsumer {
+    private final IntStats stats = new IntStats();
+    private final StampedLock lock = new StampedLock();
+
+    @Override
+    public void accept(int n) {
+        long stamp = lock.writeLock();
+        try {
+            stats.accept(n);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Adds a batch, such as one drain of an input queue, under a single lock acquisition.
+    public void acceptAll(int[] ints) {
+        long stamp = lock.writeLock();
+        try {
+            for (int n : ints) stats.accept(n);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // A copy of the statistics of everything accepted so far.
+    public IntStats snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        IntStats copy = copy();
+        if (lock.validate(stamp)) return copy;
+        stamp = lock.readLock();
+        try {
+            return copy();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private IntStats copy() {
+        IntStats copy = new IntStats();
+        copy.combine(stats);
+        return copy;
+    }
+}
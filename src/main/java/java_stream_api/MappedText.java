@@ -0,0 +1,290 @@
+package java_stream_api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+// The line-based text operations of App, run directly over a memory-mapped UTF-8 file instead
+// of a List<String>. The file is mapped as regions that end at line breaks; every operation
+// processes the regions in parallel and only creates Strings for the lines or words it
+// returns. Lines are split as Files.readAllLines splits them (\n, \r or \r\n), lengths are in
+// UTF-16 chars as String.length() reports them, and the file is assumed to be valid UTF-8.
+public final class MappedText {
+    public static final int DEFAULT_REGION_SIZE = 64 << 20;
+
+    private final List<ByteBuffer> regions;
+
+    private MappedText(List<ByteBuffer> regions) {
+        this.regions = regions;
+    }
+
+    public static MappedText open(Path path) throws IOException {
+        return open(path, DEFAULT_REGION_SIZE);
+    }
+
+    // Maps the file as regions of about regionSize bytes, each extended to the next line
+    // break. The mappings stay valid after the file is closed.
+    public static MappedText open(Path path, int regionSize) throws IOException {
+        if (regionSize <= 0) throw new IllegalArgumentException("Region size: " + regionSize);
+        List<ByteBuffer> regions = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                long end = regionEnd(channel, Math.min(start + regionSize, size), size);
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("Line longer than 2 GiB at byte " + start);
+                }
+                regions.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+                start = end;
+            }
+        }
+        return new MappedText(Collections.unmodifiableList(regions));
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    // findNumberOfElements
+    public long lineCount() {
+        return sumOverLines(line -> 1);
+    }
+
+    // totalWordsInSentences, with each line as a sentence.
+    public long totalWords() {
+        return sumOverLines(WordTokenizer::count);
+    }
+
+    // wordFrequency over all lines: lowercased words split per line, as uniqueWords splits.
+    public Map<String, Long> wordFrequency() {
+        return words().toMap();
+    }
+
+    // uniqueWords
+    public Set<String> uniqueWords() {
+        return new HashSet<>(words().keys());
+    }
+
+    // uniqueSortedWords
+    public List<String> uniqueSortedWords() {
+        List<String> words = new ArrayList<>(words().keys());
+        Collections.sort(words);
+        return words;
+    }
+
+    // countStringsLongerThan5 is countLinesLongerThan(5).
+    public long countLinesLongerThan(int length) {
+        return sumOverLines(line -> line.utf16Length() > length ? 1 : 0);
+    }
+
+    // areAllStringsLongerThan3 is allLinesLongerThan(3).
+    public boolean allLinesLongerThan(int length) {
+        return regions.parallelStream()
+                .allMatch(region -> everyLine(region, line -> line.utf16Length() > length));
+    }
+
+    // filterStringsStartingWithA is linesStartingWith("A"). Lines come back in file order.
+    public List<String> linesStartingWith(String prefix) {
+        byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+        return regions.parallelStream()
+                .flatMap(
+                        region -> {
+                            List<String> lines = new ArrayList<>();
+                            everyLine(
+                                    region,
+                                    line -> {
+                                        if (line.startsWith(bytes)) lines.add(line.toString());
+                                        return true;
+                                    });
+                            return lines.stream();
+                        })
+                .collect(Collectors.toList());
+    }
+
+    // containsStringWithJava is anyLineContains("Java").
+    public boolean anyLineContains(String text) {
+        // UTF-8 is self-synchronizing, so a byte match is a char match.
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return regions.parallelStream()
+                .anyMatch(region -> !everyLine(region, line -> !line.contains(bytes)));
+    }
+
+    // sumStringLengths, as a long.
+    public long sumLineLengths() {
+        return sumOverLines(Line::utf16Length);
+    }
+
+    private StringFrequencyTable words() {
+        return regions.parallelStream()
+                .collect(
+                        StringFrequencyTable::new,
+                        (table, region) ->
+                                everyLine(
+                                        region,
+                                        line -> {
+                                            addLowerCaseWords(table, line);
+                                            return true;
+                                        }),
+                        StringFrequencyTable::addAll);
+    }
+
+    private static void addLowerCaseWords(StringFrequencyTable table, Line line) {
+        WordTokenizer.forEachToken(
+                line,
+                (start, end) -> {
+                    if (line.isAscii(start, end)) {
+                        table.addLowerCase(line, start, end);
+                    } else {
+                        table.add(line.subSequence(start, end).toLowerCase());
+                    }
+                });
+    }
+
+    private long sumOverLines(ToLongFunction<Line> function) {
+        return regions.parallelStream()
+                .mapToLong(
+                        region -> {
+                            long[] sum = {0};
+                            everyLine(
+                                    region,
+                                    line -> {
+                                        sum[0] += function.applyAsLong(line);
+                                        return true;
+                                    });
+                            return sum[0];
+                        })
+                .sum();
+    }
+
+    // Tests the region's lines in order and stops at the first one that fails. The Line
+    // passed to test is reused for every line.
+    private static boolean everyLine(ByteBuffer region, Predicate<Line> test) {
+        Line line = new Line(region);
+        int n = region.limit();
+        int i = 0;
+        while (i < n) {
+            int start = i;
+            while (i < n && region.get(i) != '\n' && region.get(i) != '\r') i++;
+            if (!test.test(line.reset(start, i))) return false;
+            if (i < n && region.get(i++) == '\r' && i < n && region.get(i) == '\n') i++;
+        }
+        return true;
+    }
+
+    // Offset just past the first line break at or after from - 1, or size if there is none.
+    // Line breaks are those of everyLine: '\n', '\r' and "\r\n", which is never split.
+    private static long regionEnd(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = from - 1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) break;
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') return position + i + 1;
+                if (b != '\r') continue;
+                long next = position + i + 1;
+                if (next >= size) return size;
+                byte following = i + 1 < read ? buffer.get(i + 1) : byteAt(channel, next);
+                return following == '\n' ? next + 1 : next;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static byte byteAt(FileChannel channel, long position) throws IOException {
+        ByteBuffer one = ByteBuffer.allocate(1);
+        if (channel.read(one, position) < 1) throw new IOException("Short read at " + position);
+        return one.get(0);
+    }
+
+    // One line of a region, seen as the chars of its bytes: ASCII bytes read as themselves and
+    // the bytes of multi-byte sequences as chars >= 0x80, which are never whitespace. That is
+    // enough for WordTokenizer and for ASCII-only ranges; subSequence and toString decode.
+    private static final class Line implements CharSequence {
+        private final ByteBuffer region;
+        private int start;
+        private int end;
+
+        Line(ByteBuffer region) {
+            this.region = region;
+        }
+
+        Line reset(int start, int end) {
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (region.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public String subSequence(int from, int to) {
+            byte[] bytes = new byte[to - from];
+            region.get(start + from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, end - start);
+        }
+
+        boolean isAscii(int from, int to) {
+            for (int i = start + from; i < start + to; i++) if (region.get(i) < 0) return false;
+            return true;
+        }
+
+        // Every byte but a continuation byte starts a char; 4-byte sequences are surrogate pairs.
+        int utf16Length() {
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                int b = region.get(i);
+                if ((b & 0xC0) != 0x80) length++;
+                if ((b & 0xF8) == 0xF0) length++;
+            }
+            return length;
+        }
+
+        boolean startsWith(byte[] prefix) {
+            return prefix.length <= end - start && matchesAt(start, prefix);
+        }
+
+        boolean contains(byte[] needle) {
+            for (int i = start; i <= end - needle.length; i++) {
+                if (matchesAt(i, needle)) return true;
+            }
+            return false;
+        }
+
+        private boolean matchesAt(int offset, byte[] bytes) {
+            for (int i = 0; i < bytes.length; i++) {
+                if (region.get(offset + i) != bytes[i]) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package java_stream_api;
+
+import java.util.Arrays;
+
+// Classifies ints by the properties the App number filters ask about, with arithmetic only.
+// classify packs all of them into one int, digitSum << DIGIT_SUM_SHIFT | flags, so reports
+// over several properties read the column once. Fibonacci, palindrome and digit sum look at
+// |n|, as the App operations always have.
+public final class NumberClassifier {
+    public static final int PRIME = 1;
+    public static final int FIBONACCI = 1 << 1;
+    public static final int PERFECT_SQUARE = 1 << 2;
+    public static final int PALINDROME = 1 << 3;
+    public static final int FLAGS_MASK = 0xFF;
+    public static final int DIGIT_SUM_SHIFT = 8;
+
+    // F(0) to F(46), every Fibonacci number that fits in an int.
+    private static final long[] FIBONACCI_NUMBERS = new long[47];
+
+    static {
+        FIBONACCI_NUMBERS[1] = 1;
+        for (int i = 2; i < FIBONACCI_NUMBERS.length; i++) {
+            FIBONACCI_NUMBERS[i] = FIBONACCI_NUMBERS[i - 1] + FIBONACCI_NUMBERS[i - 2];
+        }
+    }
+
+    private NumberClassifier() {}
+
+    public static int classify(int n) {
+        long abs = Math.abs((long) n);
+        long reversed = 0;
+        int digitSum = 0;
+        for (long rest = abs; rest > 0; rest /= 10) {
+            int digit = (int) (rest % 10);
+            digitSum += digit;
+            reversed = reversed * 10 + digit;
+        }
+        int flags = reversed == abs ? PALINDROME : 0;
+        if (PrimeSieve.shared().isPrime(n)) flags |= PRIME;
+        if (isFibonacci(n)) flags |= FIBONACCI;
+        if (isPerfectSquare(n)) flags |= PERFECT_SQUARE;
+        return digitSum << DIGIT_SUM_SHIFT | flags;
+    }
+
+    public static int[] classify(int[] ints) {
+        int[] classes = new int[ints.length];
+        for (int i = 0; i < ints.length; i++) classes[i] = classify(ints[i]);
+        return classes;
+    }
+
+    public static int[] parallelClassify(int[] ints) {
+        int[] classes = new int[ints.length];
+        Arrays.parallelSetAll(classes, i -> classify(ints[i]));
+        return classes;
+    }
+
+    // Whether a classify result has every one of the given flags.
+    public static boolean hasFlags(int classification, int flags) {
+        return (classification & flags) == flags;
+    }
+
+    public static int digitSumOf(int classification) {
+        return classification >>> DIGIT_SUM_SHIFT;
+    }
+
+    public static boolean isPerfectSquare(int n) {
+        // Squares are 0, 1, 4 or 9 mod 16; that rejects 3 in 4 values before the root.
+        if (n < 0 || (0x0213 >>> (n & 15) & 1) == 0) return false;
+        int root = (int) Math.sqrt(n);
+        return root * root == n;
+    }
+
+    public static boolean isFibonacci(int n) {
+        return Arrays.binarySearch(FIBONACCI_NUMBERS, Math.abs((long) n)) >= 0;
+    }
+
+    // Whether the decimal digits of |n| read the same backwards.
+    public static boolean isPalindrome(int n) {
+        return Palindromes.isPalindrome(n);
+    }
+
+    public static int digitSum(int n) {
+        long abs = Math.abs((long) n);
+        int sum = 0;
+        for (long rest = abs; rest > 0; rest /= 10) sum += (int) (rest % 10);
+        return sum;
+    }
+}
@@ -0,0 +1,150 @@
+package java_stream_api;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+// Order statistics over ints without a full sort: trimmed sums, k-th smallest, median and
+// percentiles. Sum, min and max come from IntStats in a single pass.
+public final class OrderStats {
+    // Up to this many dropped values per side, trimmed sums use TopK heaps instead of selection.
+    private static final int HEAP_LIMIT = 64;
+
+    private OrderStats() {}
+
+    // Sum of the values left after dropping the low smallest and high largest ones.
+    // 0 when nothing is left.
+    public static long trimmedSum(int[] ints, int low, int high) {
+        checkTrim(low, high);
+        if ((long) low + high >= ints.length) return 0;
+        if (low <= HEAP_LIMIT && high <= HEAP_LIMIT) {
+            return IntStats.of(ints).getSum()
+                    - sum(TopK.smallest(ints, low))
+                    - sum(TopK.largest(ints, high));
+        }
+        int[] work = ints.clone();
+        int to = work.length - high;
+        select(work, 0, work.length, low);
+        select(work, low, work.length, to - 1);
+        long sum = 0;
+        for (int i = low; i < to; i++) sum += work[i];
+        return sum;
+    }
+
+    // Same as trimmedSum, with the sum and the dropped extremes gathered in parallel.
+    public static long parallelTrimmedSum(int[] ints, int low, int high) {
+        checkTrim(low, high);
+        if ((long) low + high >= ints.length) return 0;
+        if (low <= HEAP_LIMIT && high <= HEAP_LIMIT) {
+            return Arrays.stream(ints).parallel().asLongStream().sum()
+                    - sum(TopK.parallelSmallest(ints, low))
+                    - sum(TopK.parallelLargest(ints, high));
+        }
+        int[] sorted = ints.clone();
+        Arrays.parallelSort(sorted);
+        return Arrays.stream(sorted, low, sorted.length - high).parallel().asLongStream().sum();
+    }
+
+    // The value with the given 0-based rank in ascending order; expected O(n).
+    public static int kthSmallest(int[] ints, int rank) {
+        if (rank < 0 || rank >= ints.length) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", Size: " + ints.length);
+        }
+        int[] work = ints.clone();
+        select(work, 0, work.length, rank);
+        return work[rank];
+    }
+
+    // Average of the two middle values for an even count.
+    public static OptionalDouble median(int[] ints) {
+        int n = ints.length;
+        if (n == 0) return OptionalDouble.empty();
+        int[] work = ints.clone();
+        int upper = n / 2;
+        select(work, 0, n, upper);
+        if (n % 2 == 1) return OptionalDouble.of(work[upper]);
+        // After selection everything below upper is <= work[upper]; its maximum is the other
+        // middle value.
+        int lower = work[0];
+        for (int i = 1; i < upper; i++) lower = Math.max(lower, work[i]);
+        return OptionalDouble.of(((double) lower + work[upper]) / 2);
+    }
+
+    // Nearest-rank percentile: the smallest value with at least p percent of values <= it.
+    public static OptionalInt percentile(int[] ints, double p) {
+        if (ints.length == 0) {
+            checkPercentile(p);
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(percentiles(ints, p)[0]);
+    }
+
+    // Several nearest-rank percentiles over one working copy; later selections reuse the
+    // partial order left by earlier ones.
+    public static int[] percentiles(int[] ints, double... ps) {
+        for (double p : ps) checkPercentile(p);
+        if (ints.length == 0 && ps.length > 0) {
+            throw new IllegalArgumentException("No percentiles of an empty array");
+        }
+        int[] work = ints.clone();
+        int[] result = new int[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            int rank = Math.max(1, (int) Math.ceil(ps[i] / 100 * work.length)) - 1;
+            select(work, 0, work.length, rank);
+            result[i] = work[rank];
+        }
+        return result;
+    }
+
+    // Introselect: rearranges a[from, to) so that a[k] holds its sorted value, everything
+    // before it is <= a[k] and everything after it is >= a[k]. Falls back to sorting the
+    // remaining range when partitioning keeps going badly, bounding the worst case.
+    static void select(int[] a, int from, int to, int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > 16) {
+            if (depth-- == 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+            int pivot = medianOf3(a[from], a[(from + to) >>> 1], a[to - 1]);
+            // Three-way partition: [from, lt) < pivot, [lt, gt) == pivot, [gt, to) > pivot.
+            int lt = from, i = from, gt = to;
+            while (i < gt) {
+                int v = a[i];
+                if (v < pivot) swap(a, lt++, i++);
+                else if (v > pivot) swap(a, i, --gt);
+                else i++;
+            }
+            if (k < lt) to = lt;
+            else if (k >= gt) from = gt;
+            else return;
+        }
+        Arrays.sort(a, from, to);
+    }
+
+    private static int medianOf3(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private static long sum(int[] ints) {
+        long sum = 0;
+        for (int n : ints) sum += n;
+        return sum;
+    }
+
+    private static void checkTrim(int low, int high) {
+        if (low < 0 || high < 0) {
+            throw new IllegalArgumentException("Negative trim: " + low + ", " + high);
+        }
+    }
+
+    private static void checkPercentile(double p) {
+        if (!(p >= 0 && p <= 100)) throw new IllegalArgumentException("Percentile: " + p);
+    }
+}
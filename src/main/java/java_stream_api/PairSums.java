@@ -0,0 +1,91 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Pairs of values that add up to a target, in O(n log n) instead of a nested scan.
+// Semantics match App.pairsThatSumTo: for every element i in encounter order, one pair
+// {i, j} per element j of the list with j != i (by value) and i + j == sum.
+public final class PairSums {
+    private static final int PARALLEL_CHUNK = 1 << 14;
+
+    private PairSums() {}
+
+    public static List<int[]> pairsThatSumTo(int[] ints, int sum) {
+        List<int[]> pairs = new ArrayList<>();
+        forEachPair(ints, sum, (i, j) -> pairs.add(new int[] {i, j}));
+        return pairs;
+    }
+
+    // Same result as pairsThatSumTo, with the scan split into index ranges run in parallel.
+    public static List<int[]> parallelPairsThatSumTo(int[] ints, int sum) {
+        int[] sorted = ints.clone();
+        Arrays.parallelSort(sorted);
+        int chunks = (ints.length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        List<List<int[]>> parts =
+                IntStream.range(0, chunks)
+                        .parallel()
+                        .mapToObj(
+                                c -> {
+                                    List<int[]> part = new ArrayList<>();
+                                    int from = c * PARALLEL_CHUNK;
+                                    int to = Math.min(ints.length, from + PARALLEL_CHUNK);
+                                    IntPairConsumer add = (i, j) -> part.add(new int[] {i, j});
+                                    scan(ints, from, to, sorted, sum, add);
+                                    return part;
+                                })
+                        .toList();
+        List<int[]> pairs = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+        parts.forEach(pairs::addAll);
+        return pairs;
+    }
+
+    // Streams the pairs to the consumer in the order pairsThatSumTo would list them,
+    // without materializing them.
+    public static void forEachPair(int[] ints, int sum, IntPairConsumer consumer) {
+        int[] sorted = ints.clone();
+        Arrays.sort(sorted);
+        scan(ints, 0, ints.length, sorted, sum, consumer);
+    }
+
+    public static long countPairs(int[] ints, int sum) {
+        int[] sorted = ints.clone();
+        Arrays.sort(sorted);
+        long count = 0;
+        for (int i : ints) {
+            int j = sum - i;
+            if (j != i) count += occurrences(sorted, j);
+        }
+        return count;
+    }
+
+    private static void scan(
+            int[] ints, int from, int to, int[] sorted, int sum, IntPairConsumer consumer) {
+        for (int k = from; k < to; k++) {
+            int i = ints[k];
+            // i + j == sum in int arithmetic holds exactly for j == sum - i, overflow included.
+            int j = sum - i;
+            if (j == i) continue;
+            for (int c = occurrences(sorted, j); c > 0; c--) consumer.accept(i, j);
+        }
+    }
+
+    private static int occurrences(int[] sorted, int value) {
+        int first = bound(sorted, value, false);
+        if (first == sorted.length || sorted[first] != value) return 0;
+        return bound(sorted, value, true) - first;
+    }
+
+    // First index holding a value >= value, or > value when upper is set.
+    private static int bound(int[] sorted, int value, boolean upper) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value || upper && sorted[mid] == value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
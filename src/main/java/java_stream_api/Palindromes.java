@@ -0,0 +1,79 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Palindrome checks and reversal without StringBuilder. Strings are treated as
+// StringBuilder.reverse() treats them: by code point, so a surrogate pair stays one unit,
+// while unpaired surrogates count as single chars.
+public final class Palindromes {
+    private Palindromes() {}
+
+    // Same as s.equals(new StringBuilder(s).reverse().toString()), without allocating.
+    public static boolean isPalindrome(CharSequence s) {
+        int i = 0;
+        int j = s.length();
+        while (i < j) {
+            int first = Character.codePointAt(s, i);
+            int last = Character.codePointBefore(s, j);
+            if (first != last) return false;
+            i += Character.charCount(first);
+            j -= Character.charCount(last);
+        }
+        return true;
+    }
+
+    // Whether the decimal digits of |n| read the same backwards. Reverses only the lower half
+    // of the digits and compares it with the upper half.
+    public static boolean isPalindrome(int n) {
+        long rest = Math.abs((long) n);
+        if (rest != 0 && rest % 10 == 0) return false;
+        long reversed = 0;
+        while (rest > reversed) {
+            reversed = reversed * 10 + rest % 10;
+            rest /= 10;
+        }
+        return rest == reversed || rest == reversed / 10;
+    }
+
+    // Same as new StringBuilder(s).reverse().toString().
+    public static String reverse(String s) {
+        char[] chars = new char[s.length()];
+        reverseInto(s, chars, 0);
+        return new String(chars);
+    }
+
+    // Writes s reversed to buffer[offset, offset + s.length()).
+    public static void reverseInto(CharSequence s, char[] buffer, int offset) {
+        int n = s.length();
+        for (int i = 0; i < n; i++) buffer[offset + n - 1 - i] = s.charAt(i);
+        // Reversing turned each surrogate pair into low, high; put those back in order.
+        for (int i = offset; i < offset + n - 1; i++) {
+            if (Character.isLowSurrogate(buffer[i]) && Character.isHighSurrogate(buffer[i + 1])) {
+                char low = buffer[i];
+                buffer[i] = buffer[i + 1];
+                buffer[++i] = low;
+            }
+        }
+    }
+
+    // The reverse of every string, as views into one shared String holding all of them.
+    public static List<CharSlice> reverseAll(List<String> strings) {
+        int total = 0;
+        for (String s : strings) total = Math.addExact(total, s.length());
+        char[] buffer = new char[total];
+        int offset = 0;
+        for (String s : strings) {
+            reverseInto(s, buffer, offset);
+            offset += s.length();
+        }
+        String shared = new String(buffer);
+        List<CharSlice> reversed = new ArrayList<>(strings.size());
+        offset = 0;
+        for (String s : strings) {
+            reversed.add(new CharSlice(shared, offset, offset + s.length()));
+            offset += s.length();
+        }
+        return reversed;
+    }
+}
@@ -0,0 +1,78 @@
+package java_stream_api;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+// How App operations run: sequentially, or as parallel streams in a caller-supplied
+// ForkJoinPool once the input has at least threshold elements. A policy applies to the
+// operations called inside invoke; everywhere else App runs sequentially. Parallel results
+// are the same as sequential ones, in the same order.
+public final class ParallelPolicy {
+    public static final ParallelPolicy SEQUENTIAL = new ParallelPolicy(null, Integer.MAX_VALUE);
+
+    private static final ThreadLocal<ParallelPolicy> CURRENT =
+            ThreadLocal.withInitial(() -> SEQUENTIAL);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelPolicy(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    // Inputs with fewer than threshold elements still run sequentially.
+    public static ParallelPolicy of(ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 0) throw new IllegalArgumentException("Threshold: " + threshold);
+        return new ParallelPolicy(pool, threshold);
+    }
+
+    public static ParallelPolicy commonPool(int threshold) {
+        return of(ForkJoinPool.commonPool(), threshold);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // Runs operation with this policy in effect. Parallel streams started from a pool task run
+    // in that pool, so the operation is submitted to the pool unless the caller is already one
+    // of its workers.
+    public <T> T invoke(Supplier<T> operation) {
+        if (pool == null || ForkJoinTask.getPool() == pool) return applyTo(operation);
+        return pool.invoke(ForkJoinTask.adapt(() -> applyTo(operation)));
+    }
+
+    // Whether an input of the given size should be processed in parallel.
+    boolean isParallel(long size) {
+        return pool != null && size >= threshold;
+    }
+
+    // The policy of the invoke call the current thread is running in.
+    static ParallelPolicy current() {
+        return CURRENT.get();
+    }
+
+    private <T> T applyTo(Supplier<T> operation) {
+        ParallelPolicy previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return operation.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (pool == null) return "SEQUENTIAL";
+        return "ParallelPolicy{pool=" + pool + ", threshold=" + threshold + "}";
+    }
+}
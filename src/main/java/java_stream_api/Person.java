@@ -10,6 +10,11 @@ public class Person {
         this.city = city;
     }
 
+    // Name and city canonicalized in pool, for datasets where they repeat.
+    public Person(String name, String city, StringPool pool) {
+        this(pool.intern(name), pool.intern(city));
+    }
+
     public String getName() {
         return name;
     }
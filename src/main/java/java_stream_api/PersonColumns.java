@@ -0,0 +1,82 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Persons stored as two off-heap int columns of dictionary codes. filterByCity looks the city
+// up once and then compares ints, so a scan reads 4 bytes per person and no strings. Row i is
+// the i-th person added.
+public final class PersonColumns {
+    private final IntColumn names;
+    private final IntColumn cities;
+    // Dictionaries as in UserColumns: insertion positions, -1 for null.
+    private final StringFrequencyTable nameDictionary = new StringFrequencyTable();
+    private final StringFrequencyTable cityDictionary = new StringFrequencyTable();
+
+    public PersonColumns() {
+        this(16);
+    }
+
+    public PersonColumns(int expectedSize) {
+        names = new IntColumn(expectedSize);
+        cities = new IntColumn(expectedSize);
+    }
+
+    public static PersonColumns of(List<Person> persons) {
+        PersonColumns columns = new PersonColumns(persons.size());
+        for (Person person : persons) columns.add(person);
+        return columns;
+    }
+
+    public void add(Person person) {
+        add(person.getName(), person.getCity());
+    }
+
+    public void add(String name, String city) {
+        cities.add(UserColumns.encode(cityDictionary, city));
+        names.add(UserColumns.encode(nameDictionary, name));
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String name(int row) {
+        return UserColumns.decode(nameDictionary, names.get(checkRow(row)));
+    }
+
+    public String city(int row) {
+        return UserColumns.decode(cityDictionary, cities.get(checkRow(row)));
+    }
+
+    public Person person(int row) {
+        return new Person(name(row), city(row));
+    }
+
+    // Number of persons living in city, straight from the dictionary.
+    public long countInCity(String city) {
+        return cityDictionary.count(city);
+    }
+
+    public IntList rowsInCity(String city) {
+        IntList rows = new IntList();
+        int code = cityDictionary.indexOf(city);
+        if (code < 0) return rows;
+        for (int row = 0; row < size(); row++) if (cities.get(row) == code) rows.add(row);
+        return rows;
+    }
+
+    public List<Person> filterByCity(String city) {
+        IntList rows = rowsInCity(city);
+        List<Person> persons = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) persons.add(person(rows.get(i)));
+        return persons;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size()) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size());
+        }
+        return row;
+    }
+}
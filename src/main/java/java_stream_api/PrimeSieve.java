@@ -0,0 +1,159 @@
+package java_stream_api;
+
+import java.util.Arrays;
+
+// Primality by bitmap lookup. The sieve caches one bit per odd number up to a limit that grows
+// on demand (doubling, up to maxCached) by sieving only the new range, segment by segment.
+// Values above maxCached use deterministic Miller-Rabin. Readers never lock: each growth
+// publishes a new immutable bitmap through a volatile field.
+public final class PrimeSieve {
+    // Sieved at construction; covers the square root of every int, so growing only ever
+    // needs base primes that are already cached.
+    private static final int INITIAL_LIMIT = 1 << 16;
+    private static final int DEFAULT_MAX_CACHED = 1 << 26;
+    // Odd numbers per sieving segment: 32 KiB of bitmap, about an L1 cache.
+    private static final int SEGMENT_BITS = 1 << 18;
+
+    private static final PrimeSieve SHARED = new PrimeSieve(DEFAULT_MAX_CACHED);
+
+    private final int maxCached;
+    private volatile Bitmap bitmap;
+
+    public PrimeSieve(int maxCached) {
+        if (maxCached < 2) throw new IllegalArgumentException("Max cached: " + maxCached);
+        this.maxCached = maxCached;
+        this.bitmap = initial(Math.min(INITIAL_LIMIT, maxCached));
+    }
+
+    // Process-wide sieve caching up to 2^26 (4 MiB of bitmap).
+    public static PrimeSieve shared() {
+        return SHARED;
+    }
+
+    public boolean isPrime(int n) {
+        if (n < 3) return n == 2;
+        if ((n & 1) == 0) return false;
+        Bitmap current = bitmap;
+        if (n <= current.limit) return current.isSet(n >>> 1);
+        if (n <= maxCached) return grow(n).isSet(n >>> 1);
+        return millerRabin(n);
+    }
+
+    // Grows the cache to cover n (at most maxCached), for callers about to check many values.
+    public void ensureCached(int n) {
+        if (n > bitmap.limit) grow(Math.min(n, maxCached));
+    }
+
+    // The largest value answered from the bitmap without growing it.
+    public int cachedLimit() {
+        return bitmap.limit;
+    }
+
+    public int getMaxCached() {
+        return maxCached;
+    }
+
+    private synchronized Bitmap grow(int n) {
+        Bitmap old = bitmap;
+        if (n <= old.limit) return old;
+        int limit = (int) Math.min(maxCached, Math.max(n, 2L * old.limit));
+        int[] basePrimes = old.oddPrimesUpTo((int) Math.sqrt(limit));
+        int oldBits = bitCount(old.limit);
+        int bits = bitCount(limit);
+        long[] words = Arrays.copyOf(old.words, (bits + 63) >>> 6);
+        for (int from = oldBits; from < bits; from += SEGMENT_BITS) {
+            sieveSegment(words, from, Math.min(bits, from + SEGMENT_BITS), basePrimes);
+        }
+        Bitmap grown = new Bitmap(words, limit);
+        bitmap = grown;
+        return grown;
+    }
+
+    // Bits for the odd numbers 1, 3, ... up to limit.
+    private static int bitCount(int limit) {
+        return (int) ((limit + 1L) / 2);
+    }
+
+    private static Bitmap initial(int limit) {
+        int bits = bitCount(limit);
+        long[] words = new long[(bits + 63) >>> 6];
+        setRange(words, 1, bits);
+        // Bit k stands for 2k + 1; bit 0 (the number 1) stays clear.
+        for (int p = 3; (long) p * p <= limit; p += 2) {
+            if ((words[p >>> 7] & (1L << (p >>> 1))) == 0) continue;
+            for (int k = (p * p) >>> 1; k < bits; k += p) words[k >>> 6] &= ~(1L << k);
+        }
+        return new Bitmap(words, limit);
+    }
+
+    // Marks bits [from, to) prime, then clears the odd multiples of each base prime.
+    private static void sieveSegment(long[] words, int from, int to, int[] basePrimes) {
+        setRange(words, from, to);
+        long low = 2L * from + 1;
+        long high = 2L * to - 1;
+        for (int p : basePrimes) {
+            long square = (long) p * p;
+            if (square > high) break;
+            long first = Math.max(square, (low + p - 1) / p * p);
+            if ((first & 1) == 0) first += p;
+            for (long k = first >>> 1; k < to; k += p) words[(int) (k >>> 6)] &= ~(1L << k);
+        }
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        for (int k = from; k < to; k++) words[k >>> 6] |= 1L << k;
+    }
+
+    // Deterministic for every int: bases 2, 7 and 61 cover all n < 4,759,123,141.
+    static boolean millerRabin(int n) {
+        if (n < 3) return n == 2;
+        if ((n & 1) == 0) return false;
+        int d = n - 1;
+        int s = Integer.numberOfTrailingZeros(d);
+        d >>>= s;
+        for (int a : new int[] {2, 7, 61}) {
+            if (a % n == 0) continue;
+            long x = modPow(a, d, n);
+            if (x == 1 || x == n - 1) continue;
+            boolean composite = true;
+            for (int r = 1; r < s && composite; r++) {
+                x = x * x % n;
+                composite = x != n - 1;
+            }
+            if (composite) return false;
+        }
+        return true;
+    }
+
+    // n < 2^31, so products of two residues fit in a long.
+    private static long modPow(long base, int exponent, int n) {
+        long result = 1;
+        base %= n;
+        for (; exponent > 0; exponent >>>= 1) {
+            if ((exponent & 1) != 0) result = result * base % n;
+            base = base * base % n;
+        }
+        return result;
+    }
+
+    // Immutable once published: bit k is set when 2k + 1 <= limit is prime.
+    private static final class Bitmap {
+        final long[] words;
+        final int limit;
+
+        Bitmap(long[] words, int limit) {
+            this.words = words;
+            this.limit = limit;
+        }
+
+        boolean isSet(int k) {
+            return (words[k >>> 6] & (1L << k)) != 0;
+        }
+
+        int[] oddPrimesUpTo(int max) {
+            IntList primes = new IntList();
+            for (int p = 3; p <= max; p += 2) if (isSet(p >>> 1)) primes.add(p);
+            return primes.toArray();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package java_stream_api;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.IntPredicate;
+
+// Products of the ints accepted by a filter, in three result modes: wrapping int (what
+// reduce(1, (a, b) -> a * b) computes), exact long (ArithmeticException on overflow) and
+// BigInteger. All of them stop as soon as the product is known to be 0. The parallel variants
+// reduce as a fork/join tree and share a flag, so one worker finding a 0 stops the others.
+public final class Products {
+    // Elements per leaf task in the parallel variants.
+    private static final int LEAF_SIZE = 1 << 13;
+    // Leaves check the shared zero flag once per this many elements.
+    private static final int CHECK_MASK = 1023;
+
+    private Products() {}
+
+    public static int product(int[] ints) {
+        return product(ints, n -> true);
+    }
+
+    // Wrapping int product. Besides a 0 factor, 32 factors of two also make it 0 for good.
+    public static int product(int[] ints, IntPredicate factors) {
+        return intProduct(ints, 0, ints.length, factors, new AtomicBoolean());
+    }
+
+    public static long exactProduct(int[] ints) {
+        return exactProduct(ints, n -> true);
+    }
+
+    // Exact long product. Throws ArithmeticException if it overflows, unless a later factor
+    // is 0.
+    public static long exactProduct(int[] ints, IntPredicate factors) {
+        Long product = longProduct(ints, 0, ints.length, factors, new AtomicBoolean());
+        if (product == null) throw new ArithmeticException("long overflow");
+        return product;
+    }
+
+    public static BigInteger bigProduct(int[] ints) {
+        return bigProduct(ints, n -> true);
+    }
+
+    public static BigInteger bigProduct(int[] ints, IntPredicate factors) {
+        return bigProduct(ints, 0, ints.length, factors, new AtomicBoolean());
+    }
+
+    public static int parallelProduct(int[] ints) {
+        return parallelProduct(ints, n -> true);
+    }
+
+    public static int parallelProduct(int[] ints, IntPredicate factors) {
+        AtomicBoolean zero = new AtomicBoolean();
+        int product =
+                new ProductTask<Integer>(
+                                0,
+                                ints.length,
+                                (from, to) -> intProduct(ints, from, to, factors, zero),
+                                (a, b) -> a * b,
+                                zero)
+                        .invoke();
+        return zero.get() ? 0 : product;
+    }
+
+    public static long parallelExactProduct(int[] ints) {
+        return parallelExactProduct(ints, n -> true);
+    }
+
+    public static long parallelExactProduct(int[] ints, IntPredicate factors) {
+        AtomicBoolean zero = new AtomicBoolean();
+        Long product =
+                new ProductTask<Long>(
+                                0,
+                                ints.length,
+                                (from, to) -> longProduct(ints, from, to, factors, zero),
+                                (a, b) -> a == null || b == null ? null : multiplyExact(a, b),
+                                zero)
+                        .invoke();
+        if (zero.get()) return 0;
+        if (product == null) throw new ArithmeticException("long overflow");
+        return product;
+    }
+
+    public static BigInteger parallelBigProduct(int[] ints) {
+        return parallelBigProduct(ints, n -> true);
+    }
+
+    public static BigInteger parallelBigProduct(int[] ints, IntPredicate factors) {
+        AtomicBoolean zero = new AtomicBoolean();
+        BigInteger product =
+                new ProductTask<BigInteger>(
+                                0,
+                                ints.length,
+                                (from, to) -> bigProduct(ints, from, to, factors, zero),
+                                BigInteger::multiply,
+                                zero)
+                        .invoke();
+        return zero.get() ? BigInteger.ZERO : product;
+    }
+
+    // The leaves below return 0 once zero is set and set it when they reach 0 themselves.
+
+    private static int intProduct(
+            int[] ints, int from, int to, IntPredicate factors, AtomicBoolean zero) {
+        int product = 1;
+        for (int i = from; i < to; i++) {
+            if (((i - from) & CHECK_MASK) == 0 && zero.get()) return 0;
+            int n = ints[i];
+            if (!factors.test(n)) continue;
+            product *= n;
+            if (product == 0) {
+                zero.set(true);
+                return 0;
+            }
+        }
+        return product;
+    }
+
+    // null when the product overflows and no factor is 0.
+    private static Long longProduct(
+            int[] ints, int from, int to, IntPredicate factors, AtomicBoolean zero) {
+        long product = 1;
+        boolean overflow = false;
+        for (int i = from; i < to; i++) {
+            if (((i - from) & CHECK_MASK) == 0 && zero.get()) return 0L;
+            int n = ints[i];
+            if (!factors.test(n)) continue;
+            if (n == 0) {
+                zero.set(true);
+                return 0L;
+            }
+            // After an overflow only a 0 can still change the outcome.
+            if (overflow) continue;
+            long high = Math.multiplyHigh(product, n);
+            product *= n;
+            overflow = high != product >> 63;
+        }
+        return overflow ? null : product;
+    }
+
+    // Packs factors into longs while they fit, then multiplies the longs as a balanced tree,
+    // which keeps the operands of each BigInteger multiplication about the same size.
+    private static BigInteger bigProduct(
+            int[] ints, int from, int to, IntPredicate factors, AtomicBoolean zero) {
+        List<BigInteger> partials = new ArrayList<>();
+        long product = 1;
+        for (int i = from; i < to; i++) {
+            if (((i - from) & CHECK_MASK) == 0 && zero.get()) return BigInteger.ZERO;
+            int n = ints[i];
+            if (!factors.test(n)) continue;
+            if (n == 0) {
+                zero.set(true);
+                return BigInteger.ZERO;
+            }
+            long high = Math.multiplyHigh(product, n);
+            long low = product * n;
+            if (high == low >> 63) {
+                product = low;
+            } else {
+                partials.add(BigInteger.valueOf(product));
+                product = n;
+            }
+        }
+        partials.add(BigInteger.valueOf(product));
+        return balancedProduct(partials, 0, partials.size());
+    }
+
+    private static BigInteger balancedProduct(List<BigInteger> factors, int from, int to) {
+        if (to - from == 1) return factors.get(from);
+        int mid = (from + to) >>> 1;
+        return balancedProduct(factors, from, mid).multiply(balancedProduct(factors, mid, to));
+    }
+
+    private static Long multiplyExact(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        return high == low >> 63 ? low : null;
+    }
+
+    @FunctionalInterface
+    private interface Leaf<R> {
+        R product(int from, int to);
+    }
+
+    // Splits [from, to) in halves down to LEAF_SIZE and combines the halves' products. Once
+    // zero is set, the leaves still to run return at their first check and the caller
+    // ignores the combined value.
+    @SuppressWarnings("serial")
+    private static final class ProductTask<R> extends RecursiveTask<R> {
+        private final int from;
+        private final int to;
+        private final Leaf<R> leaf;
+        private final BinaryOperator<R> combine;
+        private final AtomicBoolean zero;
+
+        ProductTask(int from, int to, Leaf<R> leaf, BinaryOperator<R> combine, AtomicBoolean zero) {
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.combine = combine;
+            this.zero = zero;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= LEAF_SIZE || zero.get()) return leaf.product(from, to);
+            int mid = (from + to) >>> 1;
+            ProductTask<R> left = new ProductTask<>(from, mid, leaf, combine, zero);
+            ProductTask<R> right = new ProductTask<>(mid, to, leaf, combine, zero);
+            left.fork();
+            R rightProduct = right.compute();
+            R leftProduct = left.join();
+            return combine.apply(leftProduct, rightProduct);
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package java_stream_api;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+// Opt-in memoization for App operations called repeatedly on unchanged inputs:
+//   cache.computeIfAbsent(
+//           ResultCache.identityKey("groupStringsByLength", list, version),
+//           () -> App.groupStringsByLength(list))
+// An identity key matches the same input object at the same caller-maintained version and
+// only weakly references the input. A content key matches any collection or int[] input with
+// equal contents; it is hashed and compared in place, and only copied when stored. Both include
+// the operation name and parameters; array parameters compare by contents. The cache is an
+// LRU bounded by entry count and by total weight (by default, elements in the result and in
+// content keys). Results are stored frozen: lists, sets and maps
+// are copied, deeply, into unmodifiable ones and IntLists into unmodifiable IntLists. Arrays
+// cannot be made read-only, so they are copied when stored and again on every hit, along with
+// whatever contains them. Other values, such as User or IntStats results, are cached as they
+// are and shared by every hit, so callers must not modify them.
+// Thread-safe; computations run outside the lock, so concurrent misses on one key may compute
+// twice and the first stored result wins.
+public final class ResultCache {
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<Object> weigher;
+    // Access-ordered: iteration starts at the least recently used entry.
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResultCache(int maxEntries, long maxWeight) {
+        this(maxEntries, maxWeight, ResultCache::elementCount);
+    }
+
+    public ResultCache(int maxEntries, long maxWeight, ToLongFunction<Object> weigher) {
+        if (maxEntries < 1) throw new IllegalArgumentException("Max entries: " + maxEntries);
+        if (maxWeight < 1) throw new IllegalArgumentException("Max weight: " + maxWeight);
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+    }
+
+    // Matches calls on this very input object at this version.
+    public static Key identityKey(
+            String operation, Object input, long version, Object... parameters) {
+        return new Key(operation, new IdentityInput(input, version), parameters);
+    }
+
+    // Matches calls on any input with equal contents, in the same order.
+    public static Key contentKey(String operation, Collection<?> input, Object... parameters) {
+        return new Key(operation, new ContentInput(input), parameters);
+    }
+
+    // Matches calls on any int[] with equal contents, for the primitive App overloads.
+    public static Key contentKey(String operation, int[] input, Object... parameters) {
+        return new Key(operation, new IntArrayInput(input), parameters);
+    }
+
+    // The cached result for key, or computation's result, frozen and cached.
+    @SuppressWarnings("unchecked")
+    public <R> R computeIfAbsent(Key key, Supplier<? extends R> computation) {
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                return (R) entry.get();
+            }
+        }
+        misses.increment();
+        Object value = freeze(computation.get());
+        long entryWeight = weigher.applyAsLong(value) + key.input.weight();
+        if (entryWeight > maxWeight) return (R) value;
+        Entry stored = new Entry(value, entryWeight);
+        synchronized (this) {
+            Entry existing = entries.putIfAbsent(key.stored(), stored);
+            if (existing != null) return (R) existing.get();
+            weight += entryWeight;
+            evict();
+        }
+        return (R) stored.get();
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // Share of lookups answered from the cache; 0 before the first lookup.
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ResultCache{size=%d, weight=%d, hits=%d, misses=%d, evictions=%d}",
+                size(), weight(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    // The default weigher: elements of collections, maps, IntLists and arrays, nested ones
+    // included; 1 otherwise.
+    public static long elementCount(Object value) {
+        if (value instanceof IntList ints) return 1 + ints.size();
+        if (value instanceof Object[] array) {
+            long count = 1;
+            for (Object element : array) count += elementCount(element);
+            return count;
+        }
+        if (value != null && value.getClass().isArray()) return 1 + Array.getLength(value);
+        if (value instanceof Collection<?> collection) {
+            long count = 1;
+            for (Object element : collection) count += elementCount(element);
+            return count;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long count = 1;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                count += elementCount(entry.getKey()) + elementCount(entry.getValue());
+            }
+            return count;
+        }
+        return 1;
+    }
+
+    // Unmodifiable deep copies of lists, sets and maps, keeping their iteration order. Sorted
+    // sets and maps stay sorted, copied into a TreeSet or TreeMap with the same comparator.
+    // IntLists become unmodifiable IntLists and arrays are copied, their elements frozen.
+    @SuppressWarnings("unchecked")
+    static Object freeze(Object value) {
+        if (value instanceof IntList ints) return IntList.copyOf(ints);
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            if (copy instanceof Object[] elements) {
+                for (int i = 0; i < length; i++) elements[i] = freeze(elements[i]);
+            }
+            return copy;
+        }
+        if (value instanceof SortedSet<?> sorted) {
+            TreeSet<Object> copy = new TreeSet<>((Comparator<Object>) sorted.comparator());
+            for (Object element : sorted) copy.add(freeze(element));
+            return Collections.unmodifiableNavigableSet(copy);
+        }
+        if (value instanceof SortedMap<?, ?> sorted) {
+            TreeMap<Object, Object> copy = new TreeMap<>((Comparator<Object>) sorted.comparator());
+            sorted.forEach((k, v) -> copy.put(freeze(k), freeze(v)));
+            return Collections.unmodifiableNavigableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) copy.add(freeze(element));
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            for (Object element : set) copy.add(freeze(element));
+            return Collections.unmodifiableSet(copy);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(freeze(k), freeze(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        return value;
+    }
+
+    // Whether a frozen value holds an array anywhere, so that a hit must copy it.
+    static boolean containsArray(Object value) {
+        if (value != null && value.getClass().isArray()) return true;
+        if (value instanceof Collection<?> collection) {
+            for (Object element : collection) if (containsArray(element)) return true;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (containsArray(entry.getKey()) || containsArray(entry.getValue())) return true;
+            }
+        }
+        return false;
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public static final class Key {
+        private final String operation;
+        private final Input input;
+        // Compared with Arrays.deepEquals, so array parameters match by contents.
+        private final Object[] parameters;
+        private final int hash;
+
+        private Key(String operation, Input input, Object[] parameters) {
+            this.operation = Objects.requireNonNull(operation, "operation");
+            this.input = input;
+            this.parameters = parameters;
+            this.hash =
+                    (operation.hashCode() * 31 + input.hashCode()) * 31
+                            + Arrays.deepHashCode(parameters);
+        }
+
+        // Copies the input and, frozen, the parameters, so the caller may change or reuse both.
+        Key stored() {
+            return new Key(operation, input.stored(), (Object[]) freeze(parameters));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key
+                    && ((Key) o).hash == hash
+                    && ((Key) o).operation.equals(operation)
+                    && ((Key) o).input.equals(input)
+                    && Arrays.deepEquals(((Key) o).parameters, parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return operation + Arrays.deepToString(parameters);
+        }
+    }
+
+    private interface Input {
+        // This input as held by a cache entry, independent of the caller's objects.
+        Input stored();
+
+        // Weight the key itself adds to its entry.
+        long weight();
+    }
+
+    // Once the input is collected, the key equals nothing and ages out of the LRU.
+    private static final class IdentityInput implements Input {
+        private final WeakReference<Object> input;
+        private final int hash;
+        private final long version;
+
+        IdentityInput(Object input, long version) {
+            this.input = new WeakReference<>(Objects.requireNonNull(input, "input"));
+            this.hash = System.identityHashCode(input) * 31 + Long.hashCode(version);
+            this.version = version;
+        }
+
+        @Override
+        public Input stored() {
+            return this;
+        }
+
+        @Override
+        public long weight() {
+            return 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof IdentityInput)) return false;
+            Object referent = input.get();
+            return referent != null
+                    && referent == ((IdentityInput) o).input.get()
+                    && version == ((IdentityInput) o).version;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Lookups hash and compare the caller's collection in place; only stored keys copy it.
+    private static final class ContentInput implements Input {
+        private final Collection<?> contents;
+        private final int hash;
+
+        ContentInput(Collection<?> contents) {
+            this(contents, hashOf(contents));
+        }
+
+        private ContentInput(Collection<?> contents, int hash) {
+            this.contents = contents;
+            this.hash = hash;
+        }
+
+        // List.hashCode over the iteration order, for any collection.
+        private static int hashOf(Collection<?> contents) {
+            int hash = 1;
+            for (Object element : contents) hash = 31 * hash + Objects.hashCode(element);
+            return hash;
+        }
+
+        @Override
+        public Input stored() {
+            return new ContentInput(new ArrayList<>(contents), hash);
+        }
+
+        @Override
+        public long weight() {
+            return contents.size();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ContentInput)) return false;
+            ContentInput other = (ContentInput) o;
+            if (other.hash != hash || other.contents.size() != contents.size()) return false;
+            Iterator<?> those = other.contents.iterator();
+            for (Object element : contents) {
+                if (!Objects.equals(element, those.next())) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Like ContentInput, for int[]: Arrays.hashCode and Arrays.equals over the caller's array.
+    private static final class IntArrayInput implements Input {
+        private final int[] contents;
+        private final int hash;
+
+        IntArrayInput(int[] contents) {
+            this(contents, Arrays.hashCode(contents));
+        }
+
+        private IntArrayInput(int[] contents, int hash) {
+            this.contents = Objects.requireNonNull(contents, "input");
+            this.hash = hash;
+        }
+
+        @Override
+        public Input stored() {
+            return new IntArrayInput(contents.clone(), hash);
+        }
+
+        @Override
+        public long weight() {
+            return contents.length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IntArrayInput
+                    && ((IntArrayInput) o).hash == hash
+                    && Arrays.equals(((IntArrayInput) o).contents, contents);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final boolean copyOnGet;
+        final long weight;
+
+        Entry(Object value, long weight) {
+            this.value = value;
+            this.copyOnGet = containsArray(value);
+            this.weight = weight;
+        }
+
+        // The frozen value; values holding arrays are copied again, so no caller sees another's.
+        Object get() {
+            return copyOnGet ? freeze(value) : value;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+// String -> count table with primitive long counts and no per-update allocation. Entries live
+// in dense arrays in first-insertion order; an open-addressing (linear probing) int index maps
+// hashes to entry positions. Works as a mergeable Stream.collect container.
+public class StringFrequencyTable implements Consumer<String> {
+    private String[] keys;
+    private int[] hashes;
+    private long[] counts;
+    private int size;
+    // Slot value is entry index + 1; 0 marks an empty slot. Kept at most half full.
+    private int[] slots;
+    // Fibonacci hashing takes the top log2(slots.length) bits of hash * golden ratio.
+    private int shift;
+    private final StringPool pool;
+
+    public StringFrequencyTable() {
+        this(16);
+    }
+
+    public StringFrequencyTable(int expectedSize) {
+        this(expectedSize, null);
+    }
+
+    // Keys new to the table are interned in pool (none when null), so tables, records and
+    // other pool users share one instance per distinct string.
+    public StringFrequencyTable(int expectedSize, StringPool pool) {
+        this.pool = pool;
+        int capacity = Math.max(8, expectedSize);
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        counts = new long[capacity];
+        resize(Integer.highestOneBit(capacity * 2 - 1) * 2);
+    }
+
+    public void add(String key) {
+        add(key, 1);
+    }
+
+    public void add(String key, long count) {
+        addAndGetIndex(key, count);
+    }
+
+    // Adds count to key and returns the key's insertion position.
+    int addAndGetIndex(String key, long count) {
+        Objects.requireNonNull(key, "key");
+        int hash = key.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                entry = append(key, hash, count);
+                slots[slot] = entry + 1;
+                if (size * 2 > slots.length) resize(slots.length * 2);
+                return entry;
+            }
+            if (hashes[entry] == hash && key.equals(keys[entry])) {
+                counts[entry] += count;
+                return entry;
+            }
+        }
+    }
+
+    // Counts source[start, end); the String key is only created the first time it is seen.
+    public void add(CharSequence source, int start, int end) {
+        addRange(source, start, end, false);
+    }
+
+    // Counts source[start, end) lowercased, as String.toLowerCase() would. All-ASCII ranges
+    // are hashed and compared lowercased in place; others fall back to creating the String.
+    public void addLowerCase(CharSequence source, int start, int end) {
+        if (asciiLowerCaseApplies(source, start, end)) {
+            addRange(source, start, end, true);
+        } else {
+            add(source.subSequence(start, end).toString().toLowerCase());
+        }
+    }
+
+    // Counts each WordTokenizer token of text.
+    public void addWords(CharSequence text) {
+        WordTokenizer.forEachToken(text, (start, end) -> add(text, start, end));
+    }
+
+    // Counts each WordTokenizer token of text, lowercased.
+    public void addLowerCaseWords(CharSequence text) {
+        WordTokenizer.forEachToken(text, (start, end) -> addLowerCase(text, start, end));
+    }
+
+    @Override
+    public void accept(String key) {
+        add(key, 1);
+    }
+
+    // Adds other's counts; keys new to this table are appended in other's insertion order.
+    public void addAll(StringFrequencyTable other) {
+        for (int i = 0; i < other.size; i++) add(other.keys[i], other.counts[i]);
+    }
+
+    public long count(String key) {
+        int index = indexOf(key);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    // Insertion position of key, or -1 when absent.
+    int indexOf(String key) {
+        int hash = key.hashCode();
+        int mask = slots.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) return -1;
+            if (hashes[entry] == hash && key.equals(keys[entry])) return entry;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // The keys in insertion order.
+    public List<String> keys() {
+        return Arrays.asList(Arrays.copyOf(keys, size));
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Entry access by insertion position, 0 <= index < size().
+    public String keyAt(int index) {
+        Objects.checkIndex(index, size);
+        return keys[index];
+    }
+
+    public long countAt(int index) {
+        Objects.checkIndex(index, size);
+        return counts[index];
+    }
+
+    public void forEach(ObjLongConsumer<String> action) {
+        for (int i = 0; i < size; i++) action.accept(keys[i], counts[i]);
+    }
+
+    // The key with the highest count; the first inserted one on ties.
+    public Optional<String> mostFrequent() {
+        int best = -1;
+        for (int i = 0; i < size; i++) if (best < 0 || counts[i] > counts[best]) best = i;
+        return best < 0 ? Optional.empty() : Optional.of(keys[best]);
+    }
+
+    // The first inserted key whose count equals count.
+    public Optional<String> firstWithCount(long count) {
+        for (int i = 0; i < size; i++) if (counts[i] == count) return Optional.of(keys[i]);
+        return Optional.empty();
+    }
+
+    // Keys with a count above threshold, in insertion order.
+    public List<String> keysWithCountAbove(long threshold) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) if (counts[i] > threshold) result.add(keys[i]);
+        return result;
+    }
+
+    public Map<String, Long> toMap() {
+        Map<String, Long> map = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) map.put(keys[i], counts[i]);
+        return map;
+    }
+
+    private void addRange(CharSequence source, int start, int end, boolean lower) {
+        Objects.checkFromToIndex(start, end, source.length());
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + (lower ? toLowerAscii(source.charAt(i)) : source.charAt(i));
+        }
+        int mask = slots.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                slots[slot] = append(materialize(source, start, end, lower), hash, 1) + 1;
+                if (size * 2 > slots.length) resize(slots.length * 2);
+                return;
+            }
+            if (hashes[entry] == hash && regionEquals(keys[entry], source, start, end, lower)) {
+                counts[entry]++;
+                return;
+            }
+        }
+    }
+
+    private static boolean regionEquals(
+            String key, CharSequence source, int start, int end, boolean lower) {
+        if (key.length() != end - start) return false;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (key.charAt(i - start) != (lower ? toLowerAscii(c) : c)) return false;
+        }
+        return true;
+    }
+
+    private static String materialize(CharSequence source, int start, int end, boolean lower) {
+        if (!lower) return source.subSequence(start, end).toString();
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) chars[i - start] = toLowerAscii(source.charAt(i));
+        return new String(chars);
+    }
+
+    // Pure ASCII lowercases letter by letter in every locale but Turkish and Azeri, where
+    // 'I' becomes a dotless i.
+    private static boolean asciiLowerCaseApplies(CharSequence source, int start, int end) {
+        String language = Locale.getDefault().getLanguage();
+        if (language.equals("tr") || language.equals("az")) return false;
+        for (int i = start; i < end; i++) if (source.charAt(i) >= 0x80) return false;
+        return true;
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private int append(String key, int hash, long count) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        keys[size] = pool == null ? key : pool.intern(key);
+        hashes[size] = hash;
+        counts[size] = count;
+        return size++;
+    }
+
+    private void resize(int capacity) {
+        slots = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = slotOf(hashes[i]);
+            while (slots[slot] != 0) slot = (slot + 1) & mask;
+            slots[slot] = i + 1;
+        }
+    }
+
+    private int slotOf(int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+}
@@ -0,0 +1,125 @@
+package java_stream_api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bounded, thread-safe canonicalization of repeated strings such as cities, names and tokens:
+// intern returns one shared instance per distinct value, so copies can be dropped and equals
+// between pooled values hits its identity check. The pool is split into stripes chosen by hash,
+// each an access-ordered LRU map under its own lock, so threads interning different values
+// rarely contend. The least recently used values are evicted once a stripe is full; they stay
+// valid, only later equal values get a new instance. Hit, miss and eviction counts are
+// LongAdders, cheap to update from every thread.
+public final class StringPool {
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public StringPool(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("Max size: " + maxSize);
+        int wanted = Math.min(MAX_STRIPES, 4 * Runtime.getRuntime().availableProcessors());
+        int count = Integer.highestOneBit(Math.max(1, Math.min(wanted, maxSize)));
+        this.maxSize = maxSize;
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            // Spread maxSize over the stripes; the first maxSize % count get one more.
+            stripes[i] = new Stripe(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+        stripeShift = Integer.SIZE - Integer.numberOfTrailingZeros(count);
+    }
+
+    // The pooled instance equal to s, pooling s itself if there is none; null for null.
+    public String intern(String s) {
+        if (s == null) return null;
+        return lookup(new CharSlice(s, 0, s.length()), s);
+    }
+
+    // The pooled instance equal to source[start, end). Only a miss creates a String.
+    public String intern(CharSequence source, int start, int end) {
+        return lookup(new CharSlice(source, start, end), null);
+    }
+
+    private String lookup(CharSlice key, String value) {
+        Stripe stripe = stripes[stripeOf(key.hashCode())];
+        synchronized (stripe) {
+            String pooled = stripe.get(key);
+            if (pooled != null) {
+                hits.increment();
+                return pooled;
+            }
+            if (value == null) value = key.toString();
+            stripe.put(new CharSlice(value, 0, value.length()), value);
+        }
+        misses.increment();
+        return value;
+    }
+
+    // The top bits of a scrambled hash, so stripes do not share the low bits HashMap uses.
+    private int stripeOf(int hash) {
+        return stripeShift == Integer.SIZE ? 0 : (hash * 0x9E3779B9) >>> stripeShift;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // Share of intern calls answered from the pool; 0 before the first call.
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "StringPool{size=%d, maxSize=%d, hits=%d, misses=%d, evictions=%d}",
+                size(), maxSize, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    // Keys are CharSlices over the pooled strings, so lookups by slice need no String.
+    @SuppressWarnings("serial")
+    private final class Stripe extends LinkedHashMap<CharSlice, String> {
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CharSlice, String> eldest) {
+            if (size() <= capacity) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
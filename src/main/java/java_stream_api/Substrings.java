@@ -0,0 +1,136 @@
+package java_stream_api;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Lazy enumeration of the substrings and prefixes of a CharSequence, as CharSlice views or as
+// (start, end) offsets, in the order allSubstrings and getAllPrefixes list them. The streams
+// are SIZED and split evenly for parallel use, and count() on them is O(1); nothing is copied
+// unless a consumer calls toString().
+public final class Substrings {
+    private Substrings() {}
+
+    // Number of non-empty substrings (by position) of a sequence of the given length.
+    public static long count(int length) {
+        return (long) length * (length + 1) / 2;
+    }
+
+    // Every non-empty substring: start 0 with increasing ends, then start 1, and so on.
+    public static Stream<CharSlice> of(CharSequence s) {
+        return StreamSupport.stream(new SliceSpliterator(s, 0, count(s.length())), false);
+    }
+
+    // Every non-empty prefix, shortest first.
+    public static Stream<CharSlice> prefixes(CharSequence s) {
+        return IntStream.rangeClosed(1, s.length()).mapToObj(end -> new CharSlice(s, 0, end));
+    }
+
+    // Calls consumer with (start, end) of every non-empty substring, in the order of of(s).
+    public static void forEach(CharSequence s, IntPairConsumer consumer) {
+        int n = s.length();
+        for (int start = 0; start < n; start++) {
+            for (int end = start + 1; end <= n; end++) consumer.accept(start, end);
+        }
+    }
+
+    // Whether s can never change: a String, or a CharSlice over one.
+    private static boolean isImmutable(CharSequence s) {
+        while (s instanceof CharSlice slice) s = slice.source();
+        return s instanceof String;
+    }
+
+    // Splits over the linear index of the (start, end) pairs; row start holds n - start pairs.
+    // IMMUTABLE only for immutable sources; a StringBuilder, say, may change while it runs.
+    private static final class SliceSpliterator implements Spliterator<CharSlice> {
+        private final CharSequence source;
+        private final int characteristics;
+        private final int n;
+        private long index;
+        private final long fence;
+        private int start;
+        private int end;
+
+        SliceSpliterator(CharSequence source, long index, long fence) {
+            this(
+                    source,
+                    index,
+                    fence,
+                    ORDERED | SIZED | SUBSIZED | NONNULL | (isImmutable(source) ? IMMUTABLE : 0));
+        }
+
+        private SliceSpliterator(
+                CharSequence source, long index, long fence, int characteristics) {
+            this.source = source;
+            this.characteristics = characteristics;
+            this.n = source.length();
+            this.fence = fence;
+            seek(index);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CharSlice> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) return false;
+            action.accept(new CharSlice(source, start, end));
+            index++;
+            if (++end > n) {
+                start++;
+                end = start + 1;
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super CharSlice> action) {
+            Objects.requireNonNull(action);
+            while (index < fence) {
+                int rowEnd = (int) Math.min(n, end + (fence - index) - 1);
+                for (int e = end; e <= rowEnd; e++) action.accept(new CharSlice(source, start, e));
+                index += rowEnd - end + 1;
+                start++;
+                end = start + 1;
+            }
+        }
+
+        @Override
+        public Spliterator<CharSlice> trySplit() {
+            long mid = (index + fence) >>> 1;
+            if (mid <= index) return null;
+            SliceSpliterator prefix = new SliceSpliterator(source, index, mid, characteristics);
+            seek(mid);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+
+        private void seek(long position) {
+            // The last row whose first index is <= position.
+            int low = 0;
+            int high = Math.max(0, n - 1);
+            while (low < high) {
+                int row = (low + high + 1) >>> 1;
+                if (rowStart(row) <= position) low = row;
+                else high = row - 1;
+            }
+            index = position;
+            start = low;
+            end = low + 1 + (int) (position - rowStart(low));
+        }
+
+        private long rowStart(int row) {
+            return (long) row * n - (long) row * (row - 1) / 2;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+// Bounded top-K selection: O(n log k) time and O(min(k, n)) memory instead of sorting
+// everything.
+public final class TopK {
+    private TopK() {}
+
+    // The k largest values, largest first.
+    public static int[] largest(int[] ints, int k) {
+        IntHeap heap = new IntHeap(k, ints.length, false);
+        for (int n : ints) heap.offer(n);
+        return heap.toSortedArray();
+    }
+
+    // The k smallest values, smallest first.
+    public static int[] smallest(int[] ints, int k) {
+        IntHeap heap = new IntHeap(k, ints.length, true);
+        for (int n : ints) heap.offer(n);
+        return heap.toSortedArray();
+    }
+
+    // Same as largest, with one heap per worker thread merged at the end.
+    public static int[] parallelLargest(int[] ints, int k) {
+        checkK(k);
+        return Arrays.stream(ints)
+                .parallel()
+                .collect(() -> new IntHeap(k, ints.length, false), IntHeap::offer, IntHeap::merge)
+                .toSortedArray();
+    }
+
+    // Same as smallest, with one heap per worker thread merged at the end.
+    public static int[] parallelSmallest(int[] ints, int k) {
+        checkK(k);
+        return Arrays.stream(ints)
+                .parallel()
+                .collect(() -> new IntHeap(k, ints.length, true), IntHeap::offer, IntHeap::merge)
+                .toSortedArray();
+    }
+
+    // The k largest distinct values, largest first. Meant for small k: duplicates are
+    // detected by scanning the heap.
+    public static int[] largestDistinct(int[] ints, int k) {
+        IntHeap heap = new IntHeap(k, ints.length, false);
+        for (int n : ints) if (!heap.contains(n)) heap.offer(n);
+        return heap.toSortedArray();
+    }
+
+    // Collects the k greatest elements by the comparator, greatest first. Ties keep encounter
+    // order, as a stable sort in descending order followed by limit(k) would, also when the
+    // stream is parallel.
+    public static <T> Collector<T, ?, List<T>> largest(int k, Comparator<? super T> comparator) {
+        checkK(k);
+        return Collector.of(
+                () -> new ObjectHeap<T>(k, comparator),
+                ObjectHeap::offer,
+                ObjectHeap::merge,
+                ObjectHeap::toSortedList);
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) throw new IllegalArgumentException(Integer.toString(k));
+    }
+
+    // Binary heap of the k best ints seen so far; the root is the worst of them. With
+    // smallest set, values are stored bit-inverted (~n reverses int order) so the same
+    // min-heap keeps the smallest values. Never more than n values are offered, so the heap
+    // holds min(k, n).
+    private static final class IntHeap {
+        private final int[] heap;
+        private final boolean smallest;
+        private int size;
+
+        IntHeap(int k, int n, boolean smallest) {
+            checkK(k);
+            this.heap = new int[Math.min(k, n)];
+            this.smallest = smallest;
+        }
+
+        void offer(int value) {
+            int n = smallest ? ~value : value;
+            if (size < heap.length) {
+                heap[size] = n;
+                siftUp(size++);
+            } else if (size > 0 && n > heap[0]) {
+                heap[0] = n;
+                siftDown(0);
+            }
+        }
+
+        void merge(IntHeap other) {
+            // Both heaps store the same encoding, so offer takes the decoded value back.
+            for (int i = 0; i < other.size; i++) {
+                offer(smallest ? ~other.heap[i] : other.heap[i]);
+            }
+        }
+
+        boolean contains(int value) {
+            int n = smallest ? ~value : value;
+            for (int i = 0; i < size; i++) if (heap[i] == n) return true;
+            return false;
+        }
+
+        int[] toSortedArray() {
+            int[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                int n = sorted[size - 1 - i];
+                result[i] = smallest ? ~n : n;
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            int n = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= n) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = n;
+        }
+
+        private void siftDown(int i) {
+            int n = heap[i];
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+                if (n <= heap[child]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = n;
+        }
+    }
+
+    // Binary heap of the k greatest elements; the root is the worst kept element. Each
+    // element carries its encounter sequence so that among equal elements the later one is
+    // worse, which keeps ties stable.
+    private static final class ObjectHeap<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private final List<T> values;
+        private long[] sequences;
+        private long nextSequence;
+
+        ObjectHeap(int k, Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.values = new ArrayList<>(Math.min(k, 1024));
+            this.sequences = new long[Math.min(k, 1024)];
+        }
+
+        void offer(T value) {
+            long sequence = nextSequence++;
+            int size = values.size();
+            if (size < k) {
+                if (size == sequences.length) {
+                    sequences = Arrays.copyOf(sequences, Math.min(k, size * 2 + 1));
+                }
+                values.add(value);
+                sequences[size] = sequence;
+                siftUp(size);
+            } else if (k > 0 && comparator.compare(value, values.get(0)) > 0) {
+                // A later element only displaces the root when strictly greater.
+                values.set(0, value);
+                sequences[0] = sequence;
+                siftDown(0);
+            }
+        }
+
+        // Appends other's elements after this one's, in their original encounter order.
+        ObjectHeap<T> merge(ObjectHeap<T> other) {
+            for (int i : other.indicesBySequence()) offer(other.values.get(i));
+            return this;
+        }
+
+        List<T> toSortedList() {
+            Integer[] order = new Integer[values.size()];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> worse(a, b) ? 1 : worse(b, a) ? -1 : 0);
+            List<T> result = new ArrayList<>(order.length);
+            for (int i : order) result.add(values.get(i));
+            return result;
+        }
+
+        private int[] indicesBySequence() {
+            return IntStream.range(0, values.size())
+                    .boxed()
+                    .sorted(Comparator.comparingLong(i -> sequences[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        // Whether the element at a should be evicted before the element at b.
+        private boolean worse(int a, int b) {
+            int c = comparator.compare(values.get(a), values.get(b));
+            return c < 0 || c == 0 && sequences[a] > sequences[b];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(i, parent)) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            int size = values.size();
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && worse(child + 1, child)) child++;
+                if (!worse(child, i)) break;
+                swap(i, child);
+                i = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            T value = values.get(a);
+            values.set(a, values.get(b));
+            values.set(b, value);
+            long sequence = sequences[a];
+            sequences[a] = sequences[b];
+            sequences[b] = sequence;
+        }
+    }
+}
@@ -15,6 +15,11 @@ public class User {
         this.age = age;
     }
 
+    // Name canonicalized in pool, for datasets where names repeat.
+    public User(String name, int age, StringPool pool) {
+        this(pool.intern(name), age);
+    }
+
     public String getName() {
         return name;
     }
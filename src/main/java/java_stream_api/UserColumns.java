@@ -0,0 +1,152 @@
+package java_stream_api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Users stored column by column instead of as objects: an int age column, names and hobbies
+// as int codes into per-column dictionaries, and hobbies as one flat code column indexed by
+// per-user offsets. All int columns are off-heap (IntColumn), so a user costs about 12 bytes
+// plus 4 per hobby and no object header, and scans read ages without touching any names.
+// Row i is the i-th user added. Birthdates are not stored. User objects are only created for
+// results, and compare equal to the originals.
+public final class UserColumns {
+    private final IntColumn ages;
+    private final IntColumn names;
+    // Hobbies of row i are hobbyCodes[hobbyOffsets[i], hobbyOffsets[i + 1]).
+    private final IntColumn hobbyOffsets;
+    private final IntColumn hobbyCodes;
+    // Dictionaries: a code is the value's insertion position, and -1 stands for null.
+    private final StringFrequencyTable nameDictionary = new StringFrequencyTable();
+    private final StringFrequencyTable hobbyDictionary = new StringFrequencyTable();
+
+    public UserColumns() {
+        this(16);
+    }
+
+    public UserColumns(int expectedSize) {
+        ages = new IntColumn(expectedSize);
+        names = new IntColumn(expectedSize);
+        hobbyOffsets = new IntColumn(expectedSize + 1);
+        hobbyCodes = new IntColumn(expectedSize);
+        hobbyOffsets.add(0);
+    }
+
+    public static UserColumns of(List<User> users) {
+        UserColumns columns = new UserColumns(users.size());
+        for (User user : users) columns.add(user);
+        return columns;
+    }
+
+    public void add(User user) {
+        add(user.getName(), user.getAge(), user.getHobbies());
+    }
+
+    public void add(String name, int age, List<String> hobbies) {
+        for (String hobby : hobbies) hobbyCodes.add(encode(hobbyDictionary, hobby));
+        hobbyOffsets.add(hobbyCodes.size());
+        names.add(encode(nameDictionary, name));
+        ages.add(age);
+    }
+
+    public int size() {
+        return ages.size();
+    }
+
+    public int age(int row) {
+        return ages.get(checkRow(row));
+    }
+
+    public String name(int row) {
+        return decode(nameDictionary, names.get(checkRow(row)));
+    }
+
+    public List<String> hobbies(int row) {
+        checkRow(row);
+        int end = hobbyOffsets.get(row + 1);
+        List<String> hobbies = new ArrayList<>(end - hobbyOffsets.get(row));
+        for (int i = hobbyOffsets.get(row); i < end; i++) {
+            hobbies.add(decode(hobbyDictionary, hobbyCodes.get(i)));
+        }
+        return hobbies;
+    }
+
+    // Row row as a new User.
+    public User user(int row) {
+        User user = new User(name(row), age(row));
+        user.getHobbies().addAll(hobbies(row));
+        return user;
+    }
+
+    public List<User> users(IntList rows) {
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) users.add(user(rows.get(i)));
+        return users;
+    }
+
+    public IntList rowsOlderThan(int age) {
+        IntList rows = new IntList();
+        for (int row = 0; row < size(); row++) if (ages.get(row) > age) rows.add(row);
+        return rows;
+    }
+
+    public List<String> namesOlderThan(int age) {
+        List<String> result = new ArrayList<>();
+        for (int row = 0; row < size(); row++) {
+            if (ages.get(row) > age) result.add(decode(nameDictionary, names.get(row)));
+        }
+        return result;
+    }
+
+    // Rows ordered by age; rows of equal age keep their order.
+    public IntList rowsByAge() {
+        int[] keys = new int[size()];
+        for (int row = 0; row < keys.length; row++) keys[row] = ages.get(row);
+        return IntList.of(CountingSort.order(keys));
+    }
+
+    // The first row with the highest age, or -1 when empty.
+    public int rowWithMaxAge() {
+        int best = -1;
+        for (int row = 0; row < size(); row++) {
+            if (best < 0 || ages.get(row) > ages.get(best)) best = row;
+        }
+        return best;
+    }
+
+    public Optional<User> userWithMaxAge() {
+        int row = rowWithMaxAge();
+        return row < 0 ? Optional.empty() : Optional.of(user(row));
+    }
+
+    // Rows by User.getBirthYear(), in row order within each year.
+    public Map<Integer, IntList> rowsByBirthYear() {
+        Map<Integer, IntList> groups = new HashMap<>();
+        for (int row = 0; row < size(); row++) {
+            groups.computeIfAbsent(2000 - ages.get(row), year -> new IntList()).add(row);
+        }
+        return groups;
+    }
+
+    // O(1): the end offset of the last row.
+    public int totalHobbiesCount() {
+        return hobbyCodes.size();
+    }
+
+    static int encode(StringFrequencyTable dictionary, String value) {
+        return value == null ? -1 : dictionary.addAndGetIndex(value, 1);
+    }
+
+    static String decode(StringFrequencyTable dictionary, int code) {
+        return code < 0 ? null : dictionary.keyAt(code);
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size()) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size());
+        }
+        return row;
+    }
+}
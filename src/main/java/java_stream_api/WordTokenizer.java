@@ -0,0 +1,66 @@
+package java_stream_api;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Char-scanning replacement for s.split("\\s+") that reports tokens as offsets into the input.
+// Token boundaries match split exactly: whitespace is [ \t\n\x0B\f\r]; an empty input is one
+// empty token; leading whitespace before a word yields an empty first token; trailing
+// whitespace yields nothing; input made only of whitespace has no tokens.
+public final class WordTokenizer {
+    private WordTokenizer() {}
+
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c >= '\t' && c <= '\r';
+    }
+
+    public static int count(CharSequence s) {
+        int length = s.length();
+        if (length == 0) return 1;
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < length; i++) {
+            boolean word = !isWhitespace(s.charAt(i));
+            if (word && !inWord) count++;
+            inWord = word;
+        }
+        if (count > 0 && isWhitespace(s.charAt(0))) count++;
+        return count;
+    }
+
+    // Calls consumer with (start, end) of each token, in order.
+    public static void forEachToken(CharSequence s, IntPairConsumer consumer) {
+        int length = s.length();
+        if (length == 0) {
+            consumer.accept(0, 0);
+            return;
+        }
+        int i = 0;
+        while (i < length && isWhitespace(s.charAt(i))) i++;
+        if (i > 0 && i < length) consumer.accept(0, 0);
+        while (i < length) {
+            int start = i;
+            while (i < length && !isWhitespace(s.charAt(i))) i++;
+            consumer.accept(start, i);
+            while (i < length && isWhitespace(s.charAt(i))) i++;
+        }
+    }
+
+    // The tokens as zero-copy slices of s.
+    public static Stream<CharSlice> tokens(CharSequence s) {
+        IntList offsets = new IntList();
+        forEachToken(
+                s,
+                (start, end) -> {
+                    offsets.add(start);
+                    offsets.add(end);
+                });
+        return IntStream.range(0, offsets.size() / 2)
+                .mapToObj(i -> new CharSlice(s, offsets.get(2 * i), offsets.get(2 * i + 1)));
+    }
+
+    // The tokens as Strings canonicalized in pool; a token already pooled is not copied.
+    public static Stream<String> tokens(CharSequence s, StringPool pool) {
+        return tokens(s).map(token -> pool.intern(token.source(), token.start(), token.end()));
+    }
+}
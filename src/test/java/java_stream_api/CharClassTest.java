@@ -0,0 +1,78 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("CharClass (table-driven character classes) Unit Tests")
+class CharClassTest {
+
+    private static List<String> randomStrings() {
+        Random rnd = new Random(16);
+        String alphabet = "aeiouAEIOUbcxyzBXZ0123456789 éÄ٠€";
+        return IntStream.range(0, 5_000)
+                .mapToObj(
+                        i ->
+                                rnd.ints(rnd.nextInt(10), 0, alphabet.length())
+                                        .mapToObj(k -> String.valueOf(alphabet.charAt(k)))
+                                        .collect(Collectors.joining()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Vowel kernels match the regex and indexOf versions")
+    void testVowels() {
+        for (String s : randomStrings()) {
+            assertEquals(s.replaceAll("[AEIOUaeiou]", ""), CharClass.VOWELS.removeAll(s), s);
+            assertEquals(
+                    s.chars().filter(c -> "AEIOUaeiou".indexOf(c) >= 0).count(),
+                    CharClass.VOWELS.count(s),
+                    "Vowel count of " + s);
+        }
+        String none = "rhythm";
+        assertSame(none, CharClass.VOWELS.removeAll(none), "Unchanged string is returned as is");
+    }
+
+    @Test
+    @DisplayName("Digit class matches \\d")
+    void testDigits() {
+        for (String s : randomStrings()) {
+            assertEquals(s.matches(".*\\d.*"), CharClass.DIGITS.containsAny(s), "Digits in " + s);
+        }
+        assertFalse(CharClass.DIGITS.contains('٠'), "Arabic-Indic zero is not \\d");
+        assertEquals(3, CharClass.DIGITS.indexIn("abc4"), "First digit at 3");
+    }
+
+    @Test
+    @DisplayName("Members above Latin-1 and the Latin-1 byte path")
+    void testWideAndBytes() {
+        CharClass currency = CharClass.of("$€£");
+        assertTrue(currency.contains('€'), "Wide member");
+        assertTrue(currency.contains('£'), "Latin-1 member");
+        assertFalse(currency.contains('¥'), "Not a member");
+        assertEquals(2, currency.count("€5 or £4"), "Two currency signs");
+        byte[] latin1 = "Ärger über Öl 42".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(2, CharClass.DIGITS.count(latin1, 0, latin1.length), "Two digits");
+        assertEquals(14, CharClass.DIGITS.indexIn(latin1, 0, latin1.length), "First digit");
+        assertTrue(CharClass.of("Ö").containsAny(latin1, 0, latin1.length), "Latin-1 letter");
+        assertFalse(CharClass.DIGITS.containsAny(latin1, 0, 14), "No digits before 14");
+        assertEquals(10, CharClass.range('0', '9').count("0123456789"), "Range is inclusive");
+    }
+
+    @Test
+    @DisplayName("App string operations keep their results")
+    void testApp() {
+        List<String> strings = List.of("apple", "sky", "b2b", "tea", "", "42");
+        assertEquals(
+                List.of("ppl", "sky", "b2b", "t", "", "42"),
+                App.removeVowels(strings),
+                "Vowels removed");
+        assertEquals(
+                List.of("b2b", "42"), App.partitionByContainsDigit(strings).get(true), "Digits");
+        assertEquals(2L, App.vowelCounts(strings).get("apple"), "apple has 2 vowels");
+        assertEquals(2, App.countEndsWithVowel(strings), "apple and tea");
+    }
+}
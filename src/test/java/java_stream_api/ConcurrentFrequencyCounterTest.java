@@ -0,0 +1,103 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("ConcurrentFrequencyCounter (multi-threaded string counts) Unit Tests")
+class ConcurrentFrequencyCounterTest {
+
+    private static List<String> randomWords(long seed, int size) {
+        Random rnd = new Random(seed);
+        String[] vocabulary = {"one", "two", "three", "four", "five", "six", "seven"};
+        return rnd.ints(size, 0, vocabulary.length)
+                .mapToObj(i -> vocabulary[i])
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Sequential use matches the App frequency operations")
+    void testMatchesApp() {
+        for (long seed = 0; seed < 20; seed++) {
+            List<String> words = randomWords(seed, (int) seed * 3);
+            ConcurrentFrequencyCounter counter = new ConcurrentFrequencyCounter();
+            counter.addAll(words);
+            assertEquals(App.mostFrequentString(words), counter.mostFrequent(), "Most frequent");
+            assertEquals(App.duplicateStrings(words), counter.keysWithCountAbove(1), "Duplicates");
+            assertEquals(App.lowerCaseFrequency(words), counter.toMap(), "Counts");
+            assertEquals(words.isEmpty(), counter.isEmpty(), "Empty only without words");
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot keeps arrival order and ties go to the first arrival")
+    void testArrivalOrder() {
+        ConcurrentFrequencyCounter counter = new ConcurrentFrequencyCounter();
+        counter.addAll(List.of("b", "a", "c", "a", "b"));
+        StringFrequencyTable snapshot = counter.snapshot();
+        assertEquals(List.of("b", "a", "c"), snapshot.keys(), "Keys in arrival order");
+        assertEquals(Optional.of("b"), counter.mostFrequent(), "Tie goes to b, seen first");
+        assertEquals(2, counter.count("a"), "Count of a");
+        assertEquals(0, counter.count("z"), "Unknown key counts 0");
+    }
+
+    @Test
+    @DisplayName("Adding private tables and other counters sums the counts")
+    void testAddAll() {
+        StringFrequencyTable table = new StringFrequencyTable();
+        table.addLowerCaseWords("The cat and THE dog");
+        ConcurrentFrequencyCounter counter = new ConcurrentFrequencyCounter();
+        counter.addAll(table);
+        ConcurrentFrequencyCounter other = new ConcurrentFrequencyCounter();
+        other.add("cat", 3);
+        counter.addAll(other);
+        assertEquals(2, counter.count("the"), "Words from the table");
+        assertEquals(4, counter.count("cat"), "Table and counter counts summed");
+        assertEquals(Optional.of("cat"), counter.mostFrequent(), "cat leads after merging");
+    }
+
+    @Test
+    @DisplayName("Parallel collector and concurrent producers lose no counts")
+    void testConcurrentProducers() throws Exception {
+        List<String> words = randomWords(19, 100_000);
+        Map<String, Long> expected = App.lowerCaseFrequency(words);
+        ConcurrentFrequencyCounter collected =
+                words.parallelStream().collect(ConcurrentFrequencyCounter.collector());
+        assertEquals(expected, collected.toMap(), "Collector counts every word");
+
+        ConcurrentFrequencyCounter counter = new ConcurrentFrequencyCounter();
+        int producers = 4;
+        int chunk = words.size() / producers;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                List<String> part = words.subList(p * chunk, (p + 1) * chunk);
+                futures.add(executor.submit(() -> counter.addAll(part)));
+            }
+            Future<Boolean> reader = executor.submit(() -> {
+                long previous = 0;
+                boolean monotonic = true;
+                for (int i = 0; i < 1_000; i++) {
+                    long total = 0;
+                    for (String key : counter.snapshot().keys()) total += counter.count(key);
+                    monotonic &= total >= previous;
+                    previous = total;
+                }
+                return monotonic;
+            });
+            for (Future<?> future : futures) future.get();
+            assertTrue(reader.get(), "Concurrent readers never see totals go backwards");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(expected, counter.toMap(), "Producers count every word");
+        assertEquals(
+                Collections.frequency(words, App.mostFrequentString(words).get()),
+                counter.count(counter.mostFrequent().get()),
+                "Most frequent has the highest count after concurrent ingestion");
+    }
+}
@@ -0,0 +1,109 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("CountingSort (counting and radix sorts) Unit Tests")
+class CountingSortTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    // Key ranges that take the counting pass, one radix range, and the full int range.
+    private static int[] randomKeys(Random rnd, int size, int range) {
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = range == 0 ? rnd.nextInt() : rnd.nextInt(range) - range / 2;
+        }
+        if (size > 2) {
+            keys[0] = range == 0 ? Integer.MIN_VALUE : keys[0];
+            keys[1] = range == 0 ? Integer.MAX_VALUE : keys[1];
+        }
+        return keys;
+    }
+
+    private static int[] stableOrder(int[] keys) {
+        return IntStream.range(0, keys.length)
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> keys[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("order is the stable order for every key range and size")
+    void testOrder() {
+        Random rnd = new Random(22);
+        for (int range : new int[] {1, 3, 120, 5_000, 70_000, 0}) {
+            for (int size : new int[] {0, 1, 2, 10, 1_000, 100_000}) {
+                int[] keys = randomKeys(rnd, size, range);
+                int[] expected = stableOrder(keys);
+                String name = "range " + range + ", size " + size;
+                assertArrayEquals(expected, CountingSort.order(keys), "Sequential " + name);
+                assertArrayEquals(
+                        expected,
+                        pool.submit(() -> CountingSort.parallelOrder(keys)).join(),
+                        "Parallel " + name);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort(int[]) matches Arrays.sort and leaves its input alone")
+    void testSortInts() {
+        Random rnd = new Random(22);
+        for (int range : new int[] {1, 40, 70_000, 0}) {
+            int[] values = randomKeys(rnd, 50_000, range);
+            int[] copy = values.clone();
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, CountingSort.sort(values), "Sequential, range " + range);
+            assertArrayEquals(
+                    expected,
+                    pool.submit(() -> CountingSort.parallelSort(values)).join(),
+                    "Parallel, range " + range);
+            assertArrayEquals(copy, values, "Input unchanged, range " + range);
+        }
+    }
+
+    @Test
+    @DisplayName("Lists sort stably by key, matching the App sorting operations")
+    void testLists() {
+        List<User> users = new ArrayList<>();
+        Random rnd = new Random(22);
+        for (int i = 0; i < 30_000; i++) users.add(new User("u" + i, rnd.nextInt(100)));
+        List<User> expected = new ArrayList<>(users);
+        expected.sort(Comparator.comparingInt(User::getAge));
+        assertEquals(expected, CountingSort.sort(users, User::getAge), "Sequential users");
+        assertEquals(
+                expected,
+                pool.submit(() -> CountingSort.parallelSort(users, User::getAge)).join(),
+                "Parallel users");
+        assertEquals(expected, App.sortUsersByAge(users), "sortUsersByAge is stable by age");
+        ParallelPolicy parallel = ParallelPolicy.of(pool, 0);
+        assertEquals(
+                expected,
+                parallel.invoke(() -> App.sortUsersByAge(users)),
+                "Parallel sortUsersByAge");
+
+        List<String> strings = List.of("ccc", "a", "bb", "dd", "", "e", "fff");
+        assertEquals(
+                List.of("", "a", "e", "bb", "dd", "ccc", "fff"),
+                App.sortStringsByLength(strings),
+                "Strings by length, stable");
+        assertEquals(
+                List.of(3, 3, 2, 2, 1, 1, 0), App.lengthsDescending(strings), "Lengths descending");
+    }
+}
@@ -0,0 +1,105 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("HobbyIndex (bitmap hobby queries) Unit Tests")
+class HobbyIndexTest {
+    private static final String[] HOBBIES = {"chess", "music", "hiking", "reading", "cooking"};
+
+    private static List<User> randomUsers(long seed, int size) {
+        Random rnd = new Random(seed);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            User user = new User("u" + i, 20);
+            for (int h = rnd.nextInt(4); h > 0; h--) {
+                user.getHobbies().add(HOBBIES[rnd.nextInt(HOBBIES.length)]);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static IntList rowsWhere(List<User> users, Predicate<User> test) {
+        IntList rows = new IntList();
+        for (int i = 0; i < users.size(); i++) if (test.test(users.get(i))) rows.add(i);
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Bitmap queries match scans over the users")
+    void testMatchesScans() {
+        List<User> users = randomUsers(23, 1_000);
+        HobbyIndex index = HobbyIndex.of(users);
+        assertEquals(users.size(), index.size(), "One row per user");
+        assertEquals(
+                App.totalHobbiesCount(users), App.totalHobbiesCount(index), "Total hobbies");
+        for (String hobby : HOBBIES) {
+            IntList expected = rowsWhere(users, u -> u.getHobbies().contains(hobby));
+            assertEquals(expected, index.usersWith(hobby), "Users with " + hobby);
+            assertEquals(expected.size(), index.countUsersWith(hobby), "Count with " + hobby);
+            for (String other : HOBBIES) {
+                if (other.equals(hobby)) continue;
+                List<String> pair = List.of(hobby, other);
+                IntList all = rowsWhere(users, u -> u.getHobbies().containsAll(pair));
+                IntList any =
+                        rowsWhere(users, u -> !Collections.disjoint(u.getHobbies(), pair));
+                assertEquals(all, index.usersWithAll(pair), "All of " + pair);
+                assertEquals(any, index.usersWithAny(pair), "Any of " + pair);
+                assertEquals(any.size(), index.countUsersWithAny(pair), "Count any of " + pair);
+                assertEquals(all.size(), index.coOccurrence(hobby, other), "Co-occurrence");
+                assertEquals(
+                        all.size(),
+                        (int) index.coOccurrences(hobby).getOrDefault(other, 0),
+                        "Co-occurrence map for " + pair);
+            }
+        }
+        for (int row = 0; row < users.size(); row++) {
+            assertEquals(
+                    new HashSet<>(users.get(row).getHobbies()),
+                    new HashSet<>(index.hobbiesOf(row)),
+                    "Hobbies of row " + row);
+        }
+    }
+
+    @Test
+    @DisplayName("Edge cases: unknown hobbies, empty sets and duplicate listings")
+    void testEdgeCases() {
+        HobbyIndex index = new HobbyIndex();
+        index.add(List.of("chess", "chess"));
+        index.add(List.of());
+        index.add(List.of("music"));
+        assertEquals(3, index.totalHobbiesCount(), "Duplicates count toward the total");
+        assertEquals(1, index.countUsersWith("chess"), "Duplicates count one user");
+        assertEquals(List.of("chess", "music"), index.hobbies(), "Hobbies in first-seen order");
+        assertEquals(IntList.of(0, 1, 2), index.usersWithAll(List.of()), "All of none");
+        assertEquals(new IntList(), index.usersWithAny(List.of()), "Any of none");
+        assertEquals(0, index.countUsersWithAll(List.of("chess", "golf")), "Unknown hobby");
+        assertEquals(IntList.of(0), index.usersWithAny(List.of("chess", "golf")), "Any known");
+        assertEquals(Map.of(), index.coOccurrences("golf"), "No co-occurrences for unknown");
+        assertThrows(IndexOutOfBoundsException.class, () -> index.hobbiesOf(3), "Bad row");
+    }
+
+    @Test
+    @DisplayName("Null hobbies count toward the total like list sizes but are not indexed")
+    void testNullHobbies() {
+        HobbyIndex index = new HobbyIndex();
+        index.add(List.of("chess"));
+        assertEquals(1, index.add(Arrays.asList("music", null, "chess")), "Second row");
+        assertEquals(2, index.size(), "Both rows added");
+        assertEquals(4, index.totalHobbiesCount(), "Null listed hobby is counted");
+        assertEquals(List.of("chess", "music"), index.hobbiesOf(1), "Row keeps its hobbies");
+        assertEquals(IntList.of(0, 1), index.usersWith("chess"), "Chess on both rows");
+        assertEquals(0, index.countUsersWith(null), "Nobody has a null hobby");
+        assertEquals(
+                0, index.countUsersWithAll(Arrays.asList("chess", null)), "All with a null");
+        assertEquals(
+                IntList.of(0, 1), index.usersWithAny(Arrays.asList(null, "chess")), "Any");
+        assertEquals(0, App.totalHobbiesCount(new HobbyIndex()), "Empty index overload");
+        assertEquals(4, App.totalHobbiesCount(index), "App overload");
+    }
+}
@@ -0,0 +1,45 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IndexedPersons (city index) Unit Tests")
+class IndexedPersonsTest {
+
+    @Test
+    @DisplayName("City lookups match filterPersonsByCity through adds and removes")
+    void testMatchesApp() {
+        Random rnd = new Random(21);
+        String[] cities = {"City X", "City Y", "Berlin", "Oslo"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new Person("p" + rnd.nextInt(40), cities[rnd.nextInt(cities.length)]));
+        }
+        IndexedPersons indexed = new IndexedPersons(persons);
+        for (int round = 0; round < 40; round++) {
+            if (round % 3 == 0) {
+                Person person = new Person("n" + round, cities[rnd.nextInt(cities.length)]);
+                persons.add(person);
+                indexed.add(person);
+            } else {
+                Person person = persons.get(rnd.nextInt(persons.size()));
+                persons.remove(person);
+                indexed.remove(person);
+            }
+            for (String city : cities) {
+                List<Person> expected = App.filterPersonsByCity(persons, city);
+                assertEquals(
+                        expected,
+                        App.filterPersonsByCity(indexed, city),
+                        city + " after round " + round);
+                assertEquals(expected.size(), indexed.countInCity(city), "Count in " + city);
+            }
+        }
+        assertEquals(List.of(), indexed.inCity("Paris"), "Unknown city");
+        indexed.removeIf(p -> p.getCity().equals("Oslo"));
+        assertEquals(0, indexed.countInCity("Oslo"), "Bulk removal updates the index");
+    }
+}
@@ -0,0 +1,139 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IndexedUsers (age and birth-year indexes) Unit Tests")
+class IndexedUsersTest {
+
+    private static List<User> randomUsers(Random rnd, int size) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < size; i++) users.add(new User("u" + rnd.nextInt(50), rnd.nextInt(40)));
+        return users;
+    }
+
+    private static void assertMatchesApp(List<User> users, IndexedUsers indexed, String when) {
+        assertEquals(users, new ArrayList<>(indexed), "Same elements in order " + when);
+        assertEquals(users, indexed.asList(), "List view " + when);
+        assertEquals(
+                App.namesOfUsersOlderThan18(users),
+                App.namesOfUsersOlderThan18(indexed),
+                "Names older than 18 " + when);
+        assertEquals(App.sortUsersByAge(users), App.sortUsersByAge(indexed), "Sorted " + when);
+        assertEquals(App.userWithMaxAge(users), App.userWithMaxAge(indexed), "Oldest " + when);
+        assertEquals(
+                App.groupUsersByBirthYear(users),
+                App.groupUsersByBirthYear(indexed),
+                "Birth year groups " + when);
+    }
+
+    @Test
+    @DisplayName("Indexed queries match the App list operations through adds and removes")
+    void testMatchesApp() {
+        Random rnd = new Random(21);
+        List<User> users = randomUsers(rnd, 200);
+        IndexedUsers indexed = new IndexedUsers(users);
+        assertMatchesApp(users, indexed, "after construction");
+        for (int round = 0; round < 50; round++) {
+            if (rnd.nextBoolean() && !users.isEmpty()) {
+                User user = users.get(rnd.nextInt(users.size()));
+                assertEquals(users.remove(user), indexed.remove(user), "Removed by value");
+            } else if (rnd.nextBoolean()) {
+                User user = new User("u" + rnd.nextInt(50), rnd.nextInt(40));
+                assertEquals(users.remove(user), indexed.remove(user), "Removed if present");
+            } else {
+                User user = new User("new" + round, rnd.nextInt(60));
+                users.add(user);
+                indexed.add(user);
+            }
+            assertMatchesApp(users, indexed, "after round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Range and birth-year lookups return matches in insertion order")
+    void testLookups() {
+        IndexedUsers users = new IndexedUsers();
+        users.add(new User("a", 30));
+        users.add(new User("b", 20));
+        users.add(new User("c", 25));
+        users.add(new User("d", 30));
+        assertEquals(
+                List.of(new User("a", 30), new User("c", 25), new User("d", 30)),
+                users.withAgeBetween(25, 30),
+                "Ages 25 to 30 in insertion order");
+        assertEquals(List.of(), users.withAgeBetween(31, 29), "Empty range");
+        assertEquals(List.of(new User("b", 20)), users.bornIn(1980), "Born in 1980");
+        assertEquals(List.of(), users.bornIn(1900), "Nobody born in 1900");
+        assertEquals(Optional.of(new User("a", 30)), users.oldest(), "First of the oldest");
+        users.clear();
+        assertEquals(Optional.empty(), users.oldest(), "Cleared collection has no oldest user");
+    }
+
+    @Test
+    @DisplayName("Iterator removal updates the indexes")
+    void testIteratorRemove() {
+        IndexedUsers users = new IndexedUsers(
+                List.of(new User("a", 30), new User("b", 20), new User("c", 30)));
+        users.removeIf(user -> user.getName().equals("a"));
+        assertEquals(List.of(new User("c", 30)), users.withAgeBetween(30, 30), "Age index");
+        assertEquals(List.of(new User("c", 30)), users.bornIn(1970), "Birth-year index");
+        assertFalse(users.contains(new User("a", 30)), "Removed user is gone");
+        assertEquals(2, users.size(), "Size after removal");
+    }
+
+    @Test
+    @DisplayName("The List view is read-only and follows later changes")
+    void testListView() {
+        IndexedUsers users = new IndexedUsers(List.of(new User("a", 30), new User("b", 20)));
+        List<User> view = users.asList();
+        users.add(new User("c", 25));
+        assertEquals(3, view.size(), "Sees later adds");
+        assertEquals(new User("c", 25), view.get(2), "Positional access");
+        assertEquals(1, view.indexOf(new User("b", 20)), "indexOf");
+        assertEquals(
+                List.of(new User("c", 25), new User("b", 20), new User("a", 30)),
+                reversed(view),
+                "Backwards iteration");
+        assertEquals(App.sortUsersByAge(users), App.sortUsersByAge(view), "List overloads");
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> view.add(new User("d", 1)),
+                "No add through the view");
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> view.set(0, new User("d", 1)),
+                "No set through the view");
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0), "No remove");
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(3), "Past the end");
+    }
+
+    private static <T> List<T> reversed(List<T> list) {
+        List<T> reversed = new ArrayList<>();
+        for (ListIterator<T> it = list.listIterator(list.size()); it.hasPrevious(); ) {
+            reversed.add(it.previous());
+        }
+        return reversed;
+    }
+
+    @Test
+    @DisplayName("A user whose keys cannot be read is rejected without changing anything")
+    void testFailedAdd() {
+        IndexedUsers users = new IndexedUsers(List.of(new User("a", 30)));
+        User broken = new User("broken", 40) {
+            @Override
+            public int getBirthYear() {
+                throw new IllegalStateException("No birth year");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> users.add(broken), "Unreadable key");
+        assertThrows(NullPointerException.class, () -> users.add(null), "Null user");
+        assertEquals(List.of(new User("a", 30)), new ArrayList<>(users), "Elements unchanged");
+        assertEquals(List.of(), users.olderThan(30), "Age index unchanged");
+        assertEquals(Optional.of(new User("a", 30)), users.oldest(), "Oldest unchanged");
+        assertFalse(users.contains(broken), "Rejected user is not contained");
+    }
+}
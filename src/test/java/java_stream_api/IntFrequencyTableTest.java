@@ -0,0 +1,54 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IntFrequencyTable (open-addressing int counter) Unit Tests")
+class IntFrequencyTableTest {
+
+    @Test
+    @DisplayName("Counts match groupingBy/counting through many resizes")
+    void testMatchesGroupingBy() {
+        Random rnd = new Random(8);
+        int[] ints = rnd.ints(50_000, -5_000, 5_000).toArray();
+        IntFrequencyTable table = new IntFrequencyTable(1);
+        for (int n : ints) table.add(n);
+        Map<Integer, Long> expected = Arrays.stream(ints)
+                .boxed()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertEquals(expected, table.toMap(), "Same counts as groupingBy");
+        assertEquals(expected.size(), table.size(), "One entry per distinct key");
+        assertEquals(0, table.count(1 << 20), "Absent keys count 0");
+    }
+
+    @Test
+    @DisplayName("Extreme keys stay sparse and merged tables add up")
+    void testSparseKeysAndMerge() {
+        IntFrequencyTable left = new IntFrequencyTable();
+        left.add(Integer.MAX_VALUE);
+        left.add(0, 3);
+        IntFrequencyTable right = new IntFrequencyTable();
+        right.add(Integer.MAX_VALUE);
+        right.add(Integer.MIN_VALUE);
+        left.addAll(right);
+        assertEquals(
+                Map.of(Integer.MAX_VALUE, 2L, 0, 3L, Integer.MIN_VALUE, 1L),
+                left.toMap(),
+                "Counts of extreme keys");
+        assertTrue(new IntFrequencyTable().isEmpty(), "New table is empty");
+    }
+
+    @Test
+    @DisplayName("lengthToCountMap counts a very long string without a dense histogram")
+    void testLengthToCountMapLongString() {
+        String longString = "x".repeat(5_000_000);
+        assertEquals(
+                Map.of(5_000_000, 1L, 1, 2L),
+                App.lengthToCountMap(List.of("a", longString, "b")),
+                "Sparse length counts");
+    }
+}
@@ -0,0 +1,118 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IntKernels (vectorized int kernels with scalar fallback) Unit Tests")
+class IntKernelsTest {
+
+    private static int[] sample(int length, long seed) {
+        Random rnd = new Random(seed);
+        int[] ints = rnd.ints(length).toArray();
+        int[] edges = {0, 1, -1, 3, -15, 25, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int i = 0; i < Math.min(length, edges.length); i++) ints[i] = edges[i];
+        for (int i = edges.length; i < length; i += 3) ints[i] %= 100;
+        return ints;
+    }
+
+    // A scalar map loop's output over the whole array.
+    private static IntList mapped(int[] ints, Consumer<int[]> kernel) {
+        int[] out = new int[ints.length];
+        kernel.accept(out);
+        return IntList.of(out);
+    }
+
+    @Test
+    @DisplayName("Map and filter kernels agree with scalar loops for every tail length")
+    void testTransformsMatchScalar() {
+        for (int length = 0; length < 70; length++) {
+            int[] ints = sample(length, length);
+            int n = length;
+            String at = "length " + length;
+            assertEquals(IntKernels.Scalar.filterEven(ints, 0, n), IntKernels.filterEven(ints), at);
+            assertEquals(IntKernels.Scalar.filterOdd(ints, 0, n), IntKernels.filterOdd(ints), at);
+            assertEquals(
+                    mapped(ints, out -> IntKernels.Scalar.squares(ints, 0, n, out)),
+                    IntKernels.squares(ints),
+                    at);
+            assertEquals(
+                    mapped(ints, out -> IntKernels.Scalar.doubleOdds(ints, 0, n, out)),
+                    IntKernels.doubleOdds(ints),
+                    at);
+            assertEquals(
+                    mapped(ints, out -> IntKernels.Scalar.clampNegatives(ints, 0, n, out)),
+                    IntKernels.clampNegatives(ints),
+                    at);
+            assertEquals(
+                    mapped(ints, out -> IntKernels.Scalar.abs(ints, 0, n, out)),
+                    IntKernels.abs(ints),
+                    at);
+            assertEquals(
+                    IntKernels.Scalar.removeMultiplesOf3Or5(ints, 0, n),
+                    IntKernels.removeMultiplesOf3Or5(ints),
+                    at);
+        }
+    }
+
+    @Test
+    @DisplayName("Reductions agree with scalar loops")
+    void testReductionsMatchScalar() {
+        for (int length : new int[] {0, 1, 7, 8, 9, 63, 1000, 100_003}) {
+            int[] ints = sample(length, 42 + length);
+            String at = "length " + length;
+            assertEquals(IntKernels.Scalar.sum(ints, 0, length), IntKernels.sum(ints), at);
+            assertEquals(IntKernels.Scalar.min(ints, 0, length), IntKernels.min(ints), at);
+            assertEquals(IntKernels.Scalar.max(ints, 0, length), IntKernels.max(ints), at);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel chunks give the sequential results")
+    void testParallelMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelPolicy parallel = ParallelPolicy.of(pool, 0);
+            int[] ints = sample(100_003, 7);
+            Map<String, Supplier<Object>> kernels = new LinkedHashMap<>();
+            kernels.put("filterEven", () -> IntKernels.filterEven(ints));
+            kernels.put("filterOdd", () -> IntKernels.filterOdd(ints));
+            kernels.put("squares", () -> IntKernels.squares(ints));
+            kernels.put("doubleOdds", () -> IntKernels.doubleOdds(ints));
+            kernels.put("clampNegatives", () -> IntKernels.clampNegatives(ints));
+            kernels.put("abs", () -> IntKernels.abs(ints));
+            kernels.put("removeMultiplesOf3Or5", () -> IntKernels.removeMultiplesOf3Or5(ints));
+            kernels.put("sum", () -> IntKernels.sum(ints));
+            kernels.put("min", () -> IntKernels.min(ints));
+            kernels.put("max", () -> IntKernels.max(ints));
+            kernels.put("stats", () -> IntKernels.stats(ints).toString());
+            kernels.forEach(
+                    (name, kernel) ->
+                            assertEquals(
+                                    ParallelPolicy.SEQUENTIAL.invoke(kernel),
+                                    parallel.invoke(kernel),
+                                    name + " in parallel"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Kernels keep App semantics")
+    void testAgainstApp() {
+        List<Integer> list = Arrays.asList(3, 5, 7, 9, 10, 11, -30, -7, 14, 0, 22, 45, 8, 13);
+        int[] ints = list.stream().mapToInt(Integer::intValue).toArray();
+        assertEquals(
+                App.removeMultiplesOf3Or5(list),
+                IntKernels.removeMultiplesOf3Or5(ints).boxed(),
+                "removeMultiplesOf3Or5");
+        assertEquals(
+                App.filterEvenNumbers(list), IntKernels.filterEven(ints).boxed(), "filterEven");
+        assertEquals(App.sumOfIntegers(list), IntKernels.sum(ints), "sum");
+    }
+}
@@ -0,0 +1,82 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IntList (primitive growable int list) Unit Tests")
+class IntListTest {
+
+    @Test
+    @DisplayName("Grows past its initial capacity")
+    void testAddAndGrow() {
+        IntList list = new IntList();
+        IntStream.range(0, 1000).forEach(list::add);
+        assertEquals(1000, list.size(), "Size should be 1000");
+        assertEquals(999, list.get(999), "Last element should be 999");
+        assertArrayEquals(IntStream.range(0, 1000).toArray(), list.toArray(), "Contents");
+    }
+
+    @Test
+    @DisplayName("Rejects out of range indices")
+    void testBounds() {
+        IntList list = IntList.of(1, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "Index 2 is out of range");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0), "Negative index");
+    }
+
+    @Test
+    @DisplayName("copyOf is an unmodifiable, detached copy")
+    void testCopyOf() {
+        IntList source = IntList.of(1, 2);
+        IntList copy = IntList.copyOf(source);
+        source.set(0, 9);
+        assertEquals(IntList.of(1, 2), copy, "Detached from the source");
+        assertThrows(UnsupportedOperationException.class, () -> copy.add(3), "No add");
+        assertThrows(UnsupportedOperationException.class, () -> copy.set(0, 3), "No set");
+        assertThrows(UnsupportedOperationException.class, copy::clear, "No clear");
+        assertSame(copy, IntList.copyOf(copy), "Unmodifiable lists are not copied again");
+    }
+
+    @Test
+    @DisplayName("Equality, boxing and string form")
+    void testEqualsBoxedToString() {
+        IntList a = IntList.of(1, 2, 3);
+        IntList b = new IntList(100);
+        b.addAll(IntList.of(1, 2, 3));
+        assertEquals(a, b, "Lists with same contents should be equal");
+        assertEquals(a.hashCode(), b.hashCode(), "Equal lists share hash code");
+        assertEquals(Arrays.asList(1, 2, 3), a.boxed(), "Boxed view");
+        assertEquals("[1, 2, 3]", a.toString(), "toString mirrors List");
+    }
+
+    @Test
+    @DisplayName("App int[] map/filter overloads agree with List versions")
+    void testAppPrimitiveOverloads() {
+        List<Integer> list = Arrays.asList(-5, 3, 0, -1, 10, 9, 7, 8, 15);
+        int[] ints = list.stream().mapToInt(Integer::intValue).toArray();
+        assertEquals(App.filterEvenNumbers(list), App.filterEvenNumbers(ints).boxed(), "evens");
+        assertEquals(App.listOfSquares(list), App.listOfSquares(ints).boxed(), "squares");
+        assertEquals(App.doubleOdds(list), App.doubleOdds(ints).boxed(), "doubleOdds");
+        assertEquals(
+                App.replaceNegativesWithZero(list),
+                App.replaceNegativesWithZero(ints).boxed(),
+                "replaceNegativesWithZero");
+        assertEquals(
+                App.setNegativesToAbsolute(list),
+                App.setNegativesToAbsolute(ints).boxed(),
+                "setNegativesToAbsolute");
+        assertEquals(
+                App.removeMultiplesOf3Or5(list),
+                App.removeMultiplesOf3Or5(ints).boxed(),
+                "removeMultiplesOf3Or5");
+        assertEquals(App.differences(list), App.differences(ints).boxed(), "differences");
+        assertEquals(
+                App.indicesOfNegatives(list),
+                App.indicesOfNegatives(ints).boxed(),
+                "indicesOfNegatives");
+        assertTrue(App.differences(new int[0]).isEmpty(), "No differences for empty input");
+    }
+}
@@ -0,0 +1,82 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("IntStats (fused single-pass int statistics) Unit Tests")
+class IntStatsTest {
+
+    @Test
+    @DisplayName("Computes all statistics in one scan")
+    void testOfArray() {
+        IntStats stats = IntStats.of(new int[] {3, -1, 4, 1, 5});
+        assertEquals(5, stats.getCount(), "Count should be 5");
+        assertEquals(12, stats.getSum(), "Sum should be 12");
+        assertEquals(-1, stats.getMin(), "Min should be -1");
+        assertEquals(5, stats.getMax(), "Max should be 5");
+        assertEquals(2.4, stats.getAverage(), 0.0001, "Average should be 2.4");
+        assertEquals(6, stats.getRange(), "Range should be 5 - (-1)");
+        assertEquals(8, stats.getOddSum(), "Odd sum should be 3 - 1 + 1 + 5");
+        assertEquals(-60, stats.getProduct(), "Product should be -60");
+    }
+
+    @Test
+    @DisplayName("Empty input yields neutral values")
+    void testEmpty() {
+        IntStats stats = IntStats.of(new int[0]);
+        assertEquals(0, stats.getCount(), "Count should be 0");
+        assertEquals(0.0, stats.getAverage(), "Average of empty is 0.0");
+        assertEquals(0, stats.getRange(), "Range of empty is 0");
+        assertEquals(1, stats.getProduct(), "Product of empty is 1");
+    }
+
+    @Test
+    @DisplayName("Reads remaining buffer elements without moving position")
+    void testOfIntBuffer() {
+        IntBuffer heap = IntBuffer.wrap(new int[] {9, 1, 2, 3});
+        heap.position(1);
+        assertEquals(6, IntStats.of(heap).getSum(), "Heap buffer sum should skip position");
+        assertEquals(1, heap.position(), "Position should be untouched");
+
+        IntBuffer direct =
+                java.nio.ByteBuffer.allocateDirect(16).asIntBuffer().put(new int[] {1, 2, 3, 4});
+        direct.flip();
+        assertEquals(4, IntStats.of(direct).getMax(), "Direct buffer max should be 4");
+    }
+
+    @Test
+    @DisplayName("Works as a parallel IntStream collector")
+    void testCollectParallel() {
+        int[] ints = IntStream.rangeClosed(1, 10_000).toArray();
+        IntStats stats =
+                Arrays.stream(ints)
+                        .parallel()
+                        .collect(IntStats::new, IntStats::accept, IntStats::combine);
+        IntStats sequential = IntStats.of(ints);
+        assertEquals(sequential.getSum(), stats.getSum(), "Parallel sum should match");
+        assertEquals(sequential.getMin(), stats.getMin(), "Parallel min should match");
+        assertEquals(sequential.getMax(), stats.getMax(), "Parallel max should match");
+        assertEquals(sequential.getOddSum(), stats.getOddSum(), "Parallel odd sum should match");
+    }
+
+    @Test
+    @DisplayName("App int[] overloads agree with List versions")
+    void testAppPrimitiveOverloads() {
+        List<Integer> list = Arrays.asList(2, -7, 4, 9, 6);
+        int[] ints = list.stream().mapToInt(Integer::intValue).toArray();
+        assertEquals(App.sumOfIntegers(list), App.sumOfIntegers(ints), "sumOfIntegers");
+        assertEquals(App.minOfIntegers(list), App.minOfIntegers(ints), "minOfIntegers");
+        assertEquals(App.maxOfIntegers(list), App.maxOfIntegers(ints), "maxOfIntegers");
+        assertEquals(App.averageOfIntegers(list), App.averageOfIntegers(ints), "averageOfIntegers");
+        assertEquals(App.rangeOfNumbers(list), App.rangeOfNumbers(ints), "rangeOfNumbers");
+        assertEquals(App.sumOfOdds(list), App.sumOfOdds(ints), "sumOfOdds");
+        assertEquals(App.multiplyAll(list), App.multiplyAll(ints), "multiplyAll");
+        assertEquals(App.productOfEvens(list), App.productOfEvens(ints), "productOfEvens");
+        assertEquals(Integer.MIN_VALUE, App.minOfIntegers(new int[0]), "Empty min as List version");
+        assertEquals(Integer.MAX_VALUE, App.maxOfIntegers(new int[0]), "Empty max as List version");
+    }
+}
@@ -0,0 +1,69 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("LiveFrequency (incremental most frequent string) Unit Tests")
+class LiveFrequencyTest {
+
+    @Test
+    @DisplayName("Empty accumulator has no most frequent string")
+    void testEmpty() {
+        LiveFrequency live = new LiveFrequency();
+        assertEquals(Optional.empty(), live.mostFrequent(), "Nothing accepted yet");
+        assertEquals(0, live.maxCount(), "Max count of nothing is 0");
+        assertTrue(live.snapshot().isEmpty(), "Snapshot of nothing is empty");
+    }
+
+    @Test
+    @DisplayName("Most frequent string matches App after every accept, ties included")
+    void testMatchesApp() {
+        Random rnd = new Random(18);
+        String[] words = {"apple", "pear", "plum", "fig", "kiwi", "lime"};
+        LiveFrequency live = new LiveFrequency();
+        List<String> seen = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String word = words[rnd.nextInt(words.length)];
+            live.accept(word);
+            seen.add(word);
+            assertEquals(
+                    App.mostFrequentString(seen),
+                    live.mostFrequent(),
+                    "Most frequent after " + seen.size() + " strings");
+        }
+        assertEquals(
+                seen.stream().collect(Collectors.groupingBy(w -> w, Collectors.counting())),
+                live.snapshot(),
+                "Snapshot holds every count");
+        assertEquals(
+                Collections.frequency(seen, live.mostFrequent().get()),
+                live.maxCount(),
+                "Max count is the leader's count");
+    }
+
+    @Test
+    @DisplayName("Concurrent producers lose no counts")
+    void testConcurrentProducers() throws Exception {
+        LiveFrequency live = new LiveFrequency();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) live.accept(i % 3 == 0 ? "hot" : "w" + writer);
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(Optional.of("hot"), live.mostFrequent(), "Shared key leads");
+        assertEquals(4 * 3334, live.count("hot"), "Every shared accept counted");
+        assertEquals(4 * 3334, live.maxCount(), "Leader count is exact");
+    }
+}
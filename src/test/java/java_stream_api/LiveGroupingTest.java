@@ -0,0 +1,77 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("LiveGrouping (incremental groupingBy) Unit Tests")
+class LiveGroupingTest {
+
+    @Test
+    @DisplayName("Snapshots match groupStringsByLength over everything accepted so far")
+    void testMatchesApp() {
+        List<String> strings = List.of("a", "bb", "cc", "d", "eee", "ff", "", "ggg");
+        LiveGrouping<Integer, String> live = new LiveGrouping<>(String::length);
+        List<String> seen = new ArrayList<>();
+        for (String s : strings) {
+            live.accept(s);
+            seen.add(s);
+            assertEquals(
+                    App.groupStringsByLength(seen),
+                    live.snapshot(),
+                    "Groups after " + seen.size() + " strings");
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots are unmodifiable and unaffected by later accepts")
+    void testSnapshotIsolation() {
+        LiveGrouping<Integer, String> live = new LiveGrouping<>(String::length);
+        live.accept("ab");
+        live.accept("cd");
+        Map<Integer, List<String>> snapshot = live.snapshot();
+        for (int i = 0; i < 10; i++) live.accept("x" + i);
+        assertEquals(List.of("ab", "cd"), snapshot.get(2), "Earlier group keeps its size");
+        assertEquals(12, live.snapshot().get(2).size(), "New snapshot sees later strings");
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> snapshot.get(2).add("ef"),
+                "Groups are read-only");
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> snapshot.put(3, List.of()),
+                "Snapshot map is read-only");
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> snapshot.get(2).get(2),
+                "Views stop at the snapshot size");
+    }
+
+    @Test
+    @DisplayName("Concurrent producers lose no elements")
+    void testConcurrentProducers() throws Exception {
+        LiveGrouping<Integer, Integer> live = new LiveGrouping<>(n -> n % 5);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) live.accept(writer * 5_000 + i);
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        Map<Integer, List<Integer>> snapshot = live.snapshot();
+        assertEquals(5, snapshot.size(), "One group per remainder");
+        Set<Integer> all = snapshot.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        assertEquals(20_000, all.size(), "Every element is in exactly one group");
+    }
+}
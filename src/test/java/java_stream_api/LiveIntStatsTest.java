@@ -0,0 +1,80 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("LiveIntStats (incremental int statistics) Unit Tests")
+class LiveIntStatsTest {
+
+    @Test
+    @DisplayName("Snapshots match the App results over everything accepted so far")
+    void testMatchesApp() {
+        Random rnd = new Random(18);
+        LiveIntStats live = new LiveIntStats();
+        List<Integer> seen = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            int[] batch = rnd.ints(rnd.nextInt(50), -1000, 1000).toArray();
+            if (round % 2 == 0) live.acceptAll(batch);
+            else for (int n : batch) live.accept(n);
+            for (int n : batch) seen.add(n);
+            IntStats snapshot = live.snapshot();
+            assertEquals(seen.size(), snapshot.getCount(), "Count after round " + round);
+            assertEquals(App.sumOfIntegers(seen), (int) snapshot.getSum(), "Sum after " + round);
+            assertEquals(
+                    App.averageOfIntegers(seen),
+                    snapshot.getAverage(),
+                    1e-9,
+                    "Average after round " + round);
+            if (!seen.isEmpty()) {
+                assertEquals(App.maxOfIntegers(seen), snapshot.getMax(), "Max after " + round);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots are copies that later accepts do not change")
+    void testSnapshotIsCopy() {
+        LiveIntStats live = new LiveIntStats();
+        live.accept(5);
+        IntStats snapshot = live.snapshot();
+        live.accept(100);
+        assertEquals(1, snapshot.getCount(), "Earlier snapshot keeps its count");
+        assertEquals(5, snapshot.getMax(), "Earlier snapshot keeps its max");
+        assertEquals(2, live.snapshot().getCount(), "New snapshot sees both values");
+    }
+
+    @Test
+    @DisplayName("Concurrent writers and readers see consistent snapshots")
+    void testConcurrentSnapshots() throws Exception {
+        LiveIntStats live = new LiveIntStats();
+        int writers = 4;
+        int perWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) live.accept(1);
+                }));
+            }
+            Future<Boolean> reader = executor.submit(() -> {
+                boolean consistent = true;
+                for (int i = 0; i < 10_000; i++) {
+                    IntStats snapshot = live.snapshot();
+                    // Every value is 1, so a torn copy would show sum != count.
+                    consistent &= snapshot.getSum() == snapshot.getCount();
+                }
+                return consistent;
+            });
+            for (Future<?> future : futures) future.get();
+            assertTrue(reader.get(), "Every snapshot has sum equal to count");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals((long) writers * perWriter, live.snapshot().getSum(), "No update is lost");
+    }
+}
@@ -0,0 +1,100 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MappedText (memory-mapped line operations) Unit Tests")
+class MappedTextTest {
+
+    @TempDir Path dir;
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(dir.resolve("text.txt"), content, StandardCharsets.UTF_8);
+    }
+
+    private void assertMatchesApp(Path file, int regionSize) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        MappedText text = MappedText.open(file, regionSize);
+        String where = " (region size " + regionSize + ")";
+        assertEquals(App.findNumberOfElements(lines), text.lineCount(), "Line count" + where);
+        assertEquals(App.totalWordsInSentences(lines), text.totalWords(), "Word count" + where);
+        assertEquals(App.uniqueWords(lines), text.uniqueWords(), "Unique words" + where);
+        assertEquals(App.uniqueSortedWords(lines), text.uniqueSortedWords(), "Sorted" + where);
+        Map<String, Long> frequency = text.wordFrequency();
+        assertEquals(App.uniqueWords(lines), frequency.keySet(), "Frequency keys" + where);
+        assertEquals(
+                App.totalWordsInSentences(lines),
+                frequency.values().stream().mapToLong(Long::longValue).sum(),
+                "Frequencies add up to the word count" + where);
+        assertEquals(
+                App.countStringsLongerThan5(lines), text.countLinesLongerThan(5), "> 5" + where);
+        assertEquals(
+                App.areAllStringsLongerThan3(lines), text.allLinesLongerThan(3), "All > 3" + where);
+        assertEquals(
+                App.filterStringsStartingWithA(lines), text.linesStartingWith("A"), "A*" + where);
+        assertEquals(
+                App.containsStringWithJava(lines), text.anyLineContains("Java"), "Java" + where);
+        assertEquals(App.sumStringLengths(lines), text.sumLineLengths(), "Lengths" + where);
+    }
+
+    @Test
+    @DisplayName("Matches the List<String> operations for every region size")
+    void testMatchesApp() throws IOException {
+        Path file =
+                write(
+                        "Apple pie and Java\r\n  leading blanks\n\nÄrger über Äpfel\r"
+                                + "Agile 😀 emoji line\n \t \nAlpha beta GAMMA alpha\nlast line");
+        for (int regionSize : new int[] {1, 2, 5, 13, 1 << 20}) assertMatchesApp(file, regionSize);
+    }
+
+    @Test
+    @DisplayName("CR-only files split into regions at lone CRs, never inside CRLF")
+    void testCarriageReturnRegions() throws IOException {
+        Path file = write("a b\rc\rd e\r\rlast");
+        assertEquals(5, MappedText.open(file, 1).regionCount(), "One region per CR line");
+        for (int regionSize : new int[] {1, 2, 3, 7}) assertMatchesApp(file, regionSize);
+        Path mixed = write("x\r\ny\rz\r\n\r\nw");
+        assertEquals(5, MappedText.open(mixed, 1).regionCount(), "CRLF stays in one region");
+        for (int regionSize : new int[] {1, 2, 3, 4}) assertMatchesApp(mixed, regionSize);
+    }
+
+    @Test
+    @DisplayName("Matches the List<String> operations on random text")
+    void testRandomText() throws IOException {
+        Random rnd = new Random(4);
+        String alphabet = "Aaab Jäva\n\r\t ";
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) sb.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+        Path file = write(sb.toString());
+        assertMatchesApp(file, 64);
+        assertMatchesApp(file, 4096);
+    }
+
+    @Test
+    @DisplayName("Regions end at line breaks and an empty file has no lines")
+    void testRegions() throws IOException {
+        Path file = write("a\nb\nc\n");
+        assertEquals(3, MappedText.open(file, 1).regionCount(), "One region per line");
+        assertEquals(1, MappedText.open(file).regionCount(), "Small file is one region");
+        Path empty = write("");
+        assertEquals(0, MappedText.open(empty).lineCount(), "No lines");
+        assertEquals(Set.of(), MappedText.open(empty).uniqueWords(), "No words");
+        assertThrows(IllegalArgumentException.class, () -> MappedText.open(file, 0), "Size 0");
+    }
+
+    @Test
+    @DisplayName("Lengths count UTF-16 chars, with supplementary characters as two")
+    void testUtf16Lengths() throws IOException {
+        Path file = write("abä€😀\n");
+        assertEquals(6, MappedText.open(file).sumLineLengths(), "a, b, ä, €, and a pair");
+        assertEquals(1, MappedText.open(file).countLinesLongerThan(5), "Six chars > 5");
+    }
+}
@@ -0,0 +1,96 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("NumberClassifier (single-pass number properties) Unit Tests")
+class NumberClassifierTest {
+
+    // The string and floating-point definitions the App filters used before.
+    private static boolean stringPalindrome(int n) {
+        String s = String.valueOf(Math.abs(n));
+        return s.equals(new StringBuilder(s).reverse().toString());
+    }
+
+    private static int stringDigitSum(int n) {
+        return String.valueOf(Math.abs(n)).chars().map(Character::getNumericValue).sum();
+    }
+
+    private static boolean floatingSquare(int n) {
+        return n >= 0 && Math.sqrt(n) % 1 == 0;
+    }
+
+    private static int[] sample() {
+        Random rnd = new Random(14);
+        IntStream edges =
+                IntStream.of(0, 1, -1, 2, 4, 121, -121, 1836311903, -1836311903, 1836311904)
+                        .flatMap(n -> IntStream.of(n, Integer.MAX_VALUE, Integer.MIN_VALUE + 1));
+        IntStream squares = IntStream.range(0, 46341).map(r -> r * r);
+        return IntStream.concat(
+                        IntStream.concat(edges, squares),
+                        IntStream.concat(rnd.ints(100_000), rnd.ints(100_000, -2000, 2000)))
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("Each property matches its previous definition")
+    void testProperties() {
+        Set<Long> fibonacci = new HashSet<>();
+        for (long a = 0, b = 1; a <= Integer.MAX_VALUE; b = a + b, a = b - a) fibonacci.add(a);
+        for (int n : sample()) {
+            assertEquals(floatingSquare(n), NumberClassifier.isPerfectSquare(n), "Square " + n);
+            assertEquals(
+                    fibonacci.contains(Math.abs((long) n)),
+                    NumberClassifier.isFibonacci(n),
+                    "Fibonacci " + n);
+            assertEquals(stringPalindrome(n), NumberClassifier.isPalindrome(n), "Palindrome " + n);
+            assertEquals(stringDigitSum(n), NumberClassifier.digitSum(n), "Digit sum " + n);
+        }
+    }
+
+    private static boolean has(int classification, int flags) {
+        return NumberClassifier.hasFlags(classification, flags);
+    }
+
+    @Test
+    @DisplayName("classify packs every property of a value into one int")
+    void testClassify() {
+        int[] ints = sample();
+        int[] classes = NumberClassifier.classify(ints);
+        for (int i = 0; i < ints.length; i++) {
+            int n = ints[i];
+            int c = classes[i];
+            assertEquals(PrimeSieve.shared().isPrime(n), has(c, NumberClassifier.PRIME), "Prime");
+            assertEquals(
+                    NumberClassifier.isFibonacci(n), has(c, NumberClassifier.FIBONACCI), "Fib");
+            assertEquals(
+                    NumberClassifier.isPerfectSquare(n),
+                    has(c, NumberClassifier.PERFECT_SQUARE),
+                    "Square");
+            assertEquals(
+                    NumberClassifier.isPalindrome(n), has(c, NumberClassifier.PALINDROME), "Pal");
+            assertEquals(NumberClassifier.digitSum(n), NumberClassifier.digitSumOf(c), "Sum");
+        }
+        assertArrayEquals(classes, NumberClassifier.parallelClassify(ints), "Parallel classify");
+        int five = NumberClassifier.classify(5);
+        int flags =
+                NumberClassifier.PRIME | NumberClassifier.FIBONACCI | NumberClassifier.PALINDROME;
+        assertTrue(has(five, flags), "5 is a prime, Fibonacci palindrome");
+        assertFalse(has(five, NumberClassifier.PERFECT_SQUARE), "5 is not a square");
+    }
+
+    @Test
+    @DisplayName("App number filters keep their results")
+    void testAppFilters() {
+        List<Integer> ints = List.of(-8, 0, 1, 4, 11, 13, 16, 21, 22, 89, 121, 144, 1000);
+        assertEquals(List.of(0, 1, 4, 16, 121, 144), App.filterPerfectSquares(ints), "Squares");
+        assertEquals(List.of(-8, 0, 1, 13, 21, 89, 144), App.filterFibonacci(ints), "Fibonacci");
+        assertEquals(
+                List.of(-8, 0, 1, 4, 11, 22, 121), App.palindromicNumbers(ints), "Palindromes");
+        assertEquals(
+                List.of(4, 13, 22, 121), App.groupByDigitSum(ints).get(4), "Digit sum 4");
+    }
+}
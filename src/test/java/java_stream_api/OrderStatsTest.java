@@ -0,0 +1,90 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("OrderStats (selection-based order statistics) Unit Tests")
+class OrderStatsTest {
+
+    private static long sortedTrimmedSum(int[] ints, int low, int high) {
+        int[] sorted = ints.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (int i = low; i < sorted.length - high; i++) sum += sorted[i];
+        return sum;
+    }
+
+    @Test
+    @DisplayName("Trimmed sums match a full sort on both the heap and selection paths")
+    void testTrimmedSum() {
+        Random rnd = new Random(5);
+        for (int round = 0; round < 40; round++) {
+            int[] ints = rnd.ints(rnd.nextInt(3000), -1000, 1000).toArray();
+            int low = rnd.nextInt(round % 2 == 0 ? 10 : 500);
+            int high = rnd.nextInt(round % 2 == 0 ? 10 : 500);
+            long expected = sortedTrimmedSum(ints, low, high);
+            assertEquals(expected, OrderStats.trimmedSum(ints, low, high), "Round " + round);
+            assertEquals(
+                    expected, OrderStats.parallelTrimmedSum(ints, low, high), "Parallel " + round);
+        }
+        assertEquals(0, OrderStats.trimmedSum(new int[] {1, 2}, 1, 1), "Nothing left");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> OrderStats.trimmedSum(new int[] {1}, -1, 0),
+                "Negative trim");
+    }
+
+    @Test
+    @DisplayName("kthSmallest matches a sorted copy, duplicates included")
+    void testKthSmallest() {
+        int[] ints = new Random(9).ints(5000, 0, 20).toArray();
+        int[] sorted = ints.clone();
+        Arrays.sort(sorted);
+        for (int rank = 0; rank < ints.length; rank += 97) {
+            assertEquals(sorted[rank], OrderStats.kthSmallest(ints, rank), "Rank " + rank);
+        }
+        assertThrows(
+                IndexOutOfBoundsException.class, () -> OrderStats.kthSmallest(ints, 5000), "Rank");
+    }
+
+    @Test
+    @DisplayName("Median of odd, even and empty inputs")
+    void testMedian() {
+        assertEquals(OptionalDouble.of(3), OrderStats.median(new int[] {5, 1, 3}), "Odd count");
+        assertEquals(
+                OptionalDouble.of(2.5), OrderStats.median(new int[] {4, 1, 3, 2}), "Even count");
+        assertEquals(
+                OptionalDouble.of(Integer.MAX_VALUE),
+                OrderStats.median(new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE}),
+                "No overflow");
+        assertEquals(OptionalDouble.empty(), OrderStats.median(new int[0]), "Empty");
+    }
+
+    @Test
+    @DisplayName("Nearest-rank percentiles")
+    void testPercentiles() {
+        int[] ints = IntStream.rangeClosed(1, 100).map(i -> 101 - i).toArray();
+        assertArrayEquals(
+                new int[] {1, 25, 50, 90, 100},
+                OrderStats.percentiles(ints, 0, 25, 50, 90, 100),
+                "Percentiles of 1..100");
+        assertEquals(OptionalInt.of(2), OrderStats.percentile(new int[] {1, 2, 3}, 50), "p50");
+        assertEquals(OptionalInt.empty(), OrderStats.percentile(new int[0], 50), "Empty");
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> OrderStats.percentile(ints, 101),
+                "Out of range");
+    }
+
+    @Test
+    @DisplayName("sumExcludingExtremes keeps its List semantics")
+    void testSumExcludingExtremes() {
+        assertEquals(50, App.sumExcludingExtremes(new int[] {40, 10, 30, 20}), "Drops 10, 40");
+        assertEquals(0, App.sumExcludingExtremes(Arrays.asList(7)), "Single element");
+        assertEquals(0, App.sumExcludingExtremes(Arrays.asList(7, 8)), "Two elements");
+        assertEquals(5, App.sumExcludingExtremes(Arrays.asList(5, 5, 5)), "Equal values");
+    }
+}
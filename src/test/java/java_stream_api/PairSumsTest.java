@@ -0,0 +1,79 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("PairSums (sort-based pair search) Unit Tests")
+class PairSumsTest {
+
+    // The original nested scan, with the j != i check done on values.
+    private static List<String> reference(int[] ints, int sum) {
+        List<String> pairs = new ArrayList<>();
+        for (int i : ints) for (int j : ints) if (j != i && i + j == sum) pairs.add(i + "," + j);
+        return pairs;
+    }
+
+    private static List<String> render(List<int[]> pairs) {
+        return pairs.stream().map(p -> p[0] + "," + p[1]).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Matches the nested scan, duplicates and order included")
+    void testMatchesReference() {
+        Random rnd = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            int[] ints = rnd.ints(rnd.nextInt(60), -10, 10).toArray();
+            int sum = rnd.nextInt(21) - 10;
+            assertEquals(
+                    reference(ints, sum),
+                    render(PairSums.pairsThatSumTo(ints, sum)),
+                    "Round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Equal values never pair with each other")
+    void testNoSelfValuePairs() {
+        assertTrue(PairSums.pairsThatSumTo(new int[] {2, 2, 2}, 4).isEmpty(), "2 + 2 excluded");
+        assertEquals(
+                Arrays.asList("1,3", "1,3", "3,1", "3,1"),
+                render(PairSums.pairsThatSumTo(new int[] {1, 3, 3}, 4)),
+                "Duplicates of 3 give one pair each");
+    }
+
+    @Test
+    @DisplayName("Handles int overflow like the original sum check")
+    void testOverflow() {
+        int[] ints = {Integer.MAX_VALUE, 2, Integer.MIN_VALUE};
+        int sum = Integer.MIN_VALUE + 1;
+        assertEquals(reference(ints, sum), render(PairSums.pairsThatSumTo(ints, sum)), "Wraps");
+    }
+
+    @Test
+    @DisplayName("Parallel, streaming and counting variants agree")
+    void testVariants() {
+        int[] ints = new Random(3).ints(50_000, -5_000, 5_000).toArray();
+        List<String> expected = render(PairSums.pairsThatSumTo(ints, 17));
+        assertEquals(expected, render(PairSums.parallelPairsThatSumTo(ints, 17)), "Parallel");
+        long[] streamed = new long[1];
+        PairSums.forEachPair(ints, 17, (i, j) -> streamed[0]++);
+        assertEquals(expected.size(), streamed[0], "Streamed count");
+        assertEquals(expected.size(), PairSums.countPairs(ints, 17), "countPairs");
+    }
+
+    @Test
+    @DisplayName("App routes both overloads through PairSums")
+    void testApp() {
+        assertEquals(
+                Arrays.asList("1,4", "2,3", "3,2", "4,1"),
+                render(App.pairsThatSumTo(Arrays.asList(1, 2, 3, 4), 5)),
+                "List overload");
+        assertEquals(
+                Arrays.asList("1000,500", "1000,500", "500,1000", "500,1000"),
+                render(App.pairsThatSumTo(new int[] {1000, 1000, 500}, 1500)),
+                "int[] overload");
+    }
+}
@@ -0,0 +1,88 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Palindromes (allocation-free palindrome and reverse) Unit Tests")
+class PalindromesTest {
+
+    private static String builderReverse(String s) {
+        return new StringBuilder(s).reverse().toString();
+    }
+
+    // Short strings over a few letters, a surrogate pair and both lone surrogates, so that
+    // palindromes and broken pairs both come up often.
+    private static List<String> randomStrings() {
+        Random rnd = new Random(17);
+        String[] units = {"a", "b", "😀", "\uD83D", "\uDE00", "é"};
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int k = rnd.nextInt(6); k > 0; k--) sb.append(units[rnd.nextInt(units.length)]);
+            String half = sb.toString();
+            strings.add(half);
+            strings.add(half + builderReverse(half));
+            strings.add(half + "x" + builderReverse(half));
+        }
+        return strings;
+    }
+
+    @Test
+    @DisplayName("String checks and reverse match StringBuilder.reverse()")
+    void testMatchesStringBuilder() {
+        for (String s : randomStrings()) {
+            String expected = builderReverse(s);
+            assertEquals(expected.equals(s), Palindromes.isPalindrome(s), "Palindrome " + s);
+            assertEquals(expected, Palindromes.reverse(s), "Reverse of " + s);
+        }
+        assertTrue(Palindromes.isPalindrome("a😀a"), "A pair in the middle");
+        assertFalse(Palindromes.isPalindrome("😀\uDE00\uD83D"), "Mirrored halves");
+    }
+
+    @Test
+    @DisplayName("Numeric check matches the String version")
+    void testNumbers() {
+        Random rnd = new Random(7);
+        IntStream numbers =
+                IntStream.concat(
+                        IntStream.rangeClosed(-20_000, 20_000),
+                        IntStream.concat(
+                                rnd.ints(100_000),
+                                IntStream.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 1234554321)));
+        numbers.forEach(
+                n -> {
+                    String digits = String.valueOf(Math.abs((long) n));
+                    boolean expected = digits.equals(builderReverse(digits));
+                    if (Palindromes.isPalindrome(n) != expected) fail("Wrong answer for " + n);
+                });
+    }
+
+    @Test
+    @DisplayName("Bulk reverse shares one buffer")
+    void testReverseAll() {
+        List<String> strings = randomStrings().subList(0, 3_000);
+        List<CharSlice> reversed = Palindromes.reverseAll(strings);
+        assertEquals(strings.size(), reversed.size(), "One result per string");
+        for (int i = 0; i < strings.size(); i++) {
+            assertEquals(builderReverse(strings.get(i)), reversed.get(i).toString(), "#" + i);
+        }
+        assertSame(reversed.get(1).source(), reversed.get(2).source(), "Shared source");
+        assertEquals(List.of(), Palindromes.reverseAll(List.of()), "Nothing to reverse");
+    }
+
+    @Test
+    @DisplayName("App palindrome operations keep their results")
+    void testApp() {
+        List<String> strings = List.of("level", "java", "", "noon", "ab");
+        assertEquals(List.of("java", "ab"), App.removePalindromes(strings), "Non-palindromes");
+        assertEquals(3, App.countPalindromes(strings), "level, \"\" and noon");
+        assertEquals("avaj", App.stringToReverse(strings).get("java"), "Reversed");
+        assertEquals(
+                List.of(0, -121, 7, 1001),
+                App.palindromicNumbers(List.of(0, -121, 7, 10, 1001, 123)),
+                "Palindromic numbers");
+    }
+}
@@ -0,0 +1,198 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("ParallelPolicy (parallel App operations) Unit Tests")
+class ParallelPolicyTest {
+    private static ForkJoinPool pool;
+    private static ParallelPolicy parallel;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+        parallel = ParallelPolicy.of(pool, 0);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    private static void assertSameResults(Map<String, Supplier<Object>> operations) {
+        operations.forEach(
+                (name, operation) ->
+                        assertEquals(
+                                ParallelPolicy.SEQUENTIAL.invoke(operation),
+                                parallel.invoke(operation),
+                                name + " gives the same result in parallel"));
+    }
+
+    @Test
+    @DisplayName("Integer operations match their sequential results")
+    void testIntegerOperations() {
+        Random rnd = new Random(11);
+        int[] array = rnd.ints(20_000, -100, 100).toArray();
+        List<Integer> ints = Arrays.stream(array).boxed().collect(Collectors.toList());
+        List<Integer> noZeros = ints.stream().map(n -> n == 0 ? 1 : n).collect(Collectors.toList());
+        noZeros.set(15_000, 0);
+        Map<String, Supplier<Object>> operations = new LinkedHashMap<>();
+        operations.put("uniqueIntegers", () -> App.uniqueIntegers(ints));
+        operations.put("sumOfIntegers", () -> App.sumOfIntegers(ints));
+        operations.put("minOfIntegers", () -> App.minOfIntegers(ints));
+        operations.put("getFirstIntegerOrZero", () -> App.getFirstIntegerOrZero(ints));
+        operations.put("listOfSquares", () -> App.listOfSquares(ints));
+        operations.put("discardFirstThreeIntegers", () -> App.discardFirstThreeIntegers(ints));
+        operations.put("keepFirstThreeIntegers", () -> App.keepFirstThreeIntegers(ints));
+        operations.put("reverseList", () -> App.reverseList(ints));
+        operations.put("groupByRemainder3", () -> App.groupByRemainder3(ints));
+        operations.put("uniqueElementsReversed", () -> App.uniqueElementsReversed(ints));
+        operations.put("integersToSquareMap", () -> App.integersToSquareMap(ints));
+        operations.put("rangeOfNumbers", () -> App.rangeOfNumbers(ints));
+        operations.put("secondLargest", () -> App.secondLargest(ints));
+        operations.put("sumExcludingExtremes", () -> App.sumExcludingExtremes(ints));
+        operations.put("untilFirstZero", () -> App.untilFirstZero(noZeros));
+        operations.put("joinNumbersWithDash", () -> App.joinNumbersWithDash(ints));
+        operations.put("swapEvenOddIndexed", () -> App.swapEvenOddIndexed(ints));
+        operations.put("lastNElements", () -> App.lastNElements(ints, 7));
+        operations.put("partitionPrimes", () -> App.partitionPrimes(ints));
+        operations.put("multiplyAll", () -> App.multiplyAll(noZeros));
+        operations.put("indicesOfNegatives", () -> App.indicesOfNegatives(ints));
+        operations.put("indicesOfNegatives[]", () -> App.indicesOfNegatives(array));
+        operations.put("groupByDigitSum", () -> App.groupByDigitSum(ints));
+        operations.put("palindromicNumbers", () -> App.palindromicNumbers(ints));
+        operations.put("differences", () -> App.differences(ints));
+        operations.put("differences[]", () -> App.differences(array));
+        operations.put("sumOfIntegers[]", () -> App.sumOfIntegers(array));
+        operations.put("minOfIntegers[]", () -> App.minOfIntegers(array));
+        operations.put("maxOfIntegers[]", () -> App.maxOfIntegers(array));
+        operations.put("listOfSquares[]", () -> App.listOfSquares(array));
+        operations.put("filterEvenNumbers[]", () -> App.filterEvenNumbers(array));
+        operations.put("averageOfIntegers[]", () -> App.averageOfIntegers(array));
+        operations.put("rangeOfNumbers[]", () -> App.rangeOfNumbers(array));
+        operations.put("doubleOdds[]", () -> App.doubleOdds(array));
+        operations.put("replaceNegativesWithZero[]", () -> App.replaceNegativesWithZero(array));
+        operations.put("sumOfOdds[]", () -> App.sumOfOdds(array));
+        operations.put("setNegativesToAbsolute[]", () -> App.setNegativesToAbsolute(array));
+        operations.put("removeMultiplesOf3Or5[]", () -> App.removeMultiplesOf3Or5(array));
+        operations.put("productOfEvens", () -> App.productOfEvens(noZeros));
+        operations.put("flattenIntegerLists", () -> App.flattenIntegerLists(List.of(ints, ints)));
+        operations.put(
+                "pairsThatSumTo",
+                () ->
+                        App.pairsThatSumTo(ints.subList(0, 2_000), 7).stream()
+                                .map(Arrays::toString)
+                                .collect(Collectors.toList()));
+        assertSameResults(operations);
+    }
+
+    @Test
+    @DisplayName("String and object operations match their sequential results")
+    void testStringOperations() {
+        Random rnd = new Random(12);
+        List<String> strings =
+                IntStream.range(0, 20_000)
+                        .mapToObj(
+                                i ->
+                                        rnd.ints(rnd.nextInt(8), 'A', 'z')
+                                                .mapToObj(Character::toString)
+                                                .collect(Collectors.joining()))
+                        .collect(Collectors.toList());
+        List<String> sentences =
+                IntStream.range(0, 2_000)
+                        .mapToObj(i -> String.join(" ", strings.subList(i * 5, i * 5 + 5)))
+                        .collect(Collectors.toList());
+        List<User> users =
+                IntStream.range(0, 5_000)
+                        .mapToObj(i -> new User(strings.get(i), rnd.nextInt(90)))
+                        .collect(Collectors.toList());
+        Map<String, Supplier<Object>> operations = new LinkedHashMap<>();
+        operations.put("convertStringsToUppercase", () -> App.convertStringsToUppercase(strings));
+        operations.put(
+                "concatenateStringsWithComma", () -> App.concatenateStringsWithComma(strings));
+        operations.put("getLastString", () -> App.getLastString(strings));
+        operations.put("sortStringsByLength", () -> App.sortStringsByLength(strings));
+        operations.put("selectEvery3rd", () -> App.selectEvery3rd(strings));
+        operations.put("duplicateStrings", () -> App.duplicateStrings(strings));
+        operations.put("longestString", () -> App.longestString(strings));
+        operations.put("groupStringsByLength", () -> App.groupStringsByLength(strings));
+        operations.put("lengthsDescending", () -> App.lengthsDescending(strings));
+        operations.put("uniqueSortedCharacters", () -> App.uniqueSortedCharacters(strings));
+        operations.put("mostFrequentString", () -> App.mostFrequentString(strings));
+        operations.put("lengthToCountMap", () -> App.lengthToCountMap(strings));
+        operations.put("firstNonRepeatingString", () -> App.firstNonRepeatingString(strings));
+        operations.put("nLongestStrings", () -> App.nLongestStrings(strings, 50));
+        operations.put("isSorted", () -> App.isSorted(strings));
+        operations.put("zip", () -> App.zip(strings, users));
+        operations.put("lowerCaseFrequency", () -> App.lowerCaseFrequency(strings));
+        operations.put("longestStringForEachLength", () -> App.longestStringForEachLength(strings));
+        operations.put("totalWordsInSentences", () -> App.totalWordsInSentences(sentences));
+        operations.put("uniqueSortedWords", () -> App.uniqueSortedWords(sentences));
+        operations.put("sortUsersByAge", () -> App.sortUsersByAge(users));
+        operations.put("userWithMaxAge", () -> App.userWithMaxAge(users));
+        operations.put("groupUsersByBirthYear", () -> App.groupUsersByBirthYear(users));
+        operations.put("userNamesSortedByLength", () -> App.userNamesSortedByLength(users));
+        assertSameResults(operations);
+    }
+
+    @Test
+    @DisplayName("Index-based operations split by index on any kind of list")
+    void testIndexOperations() {
+        List<String> linked = new LinkedList<>(List.of("a", "b", "c", "d", "e", "f", "g"));
+        assertEquals(
+                List.of("c", "f"),
+                parallel.invoke(() -> App.selectEvery3rd(linked)),
+                "Every 3rd element of a LinkedList");
+        assertEquals(
+                List.of("b", "a", "d", "c", "f", "e", "g"),
+                parallel.invoke(() -> App.swapEvenOddIndexed(linked)),
+                "Odd-sized list keeps its last element");
+        assertEquals(
+                List.of(), parallel.invoke(() -> App.differences(List.of())), "No differences");
+        assertEquals(
+                IntList.of(), parallel.invoke(() -> App.differences(new int[0])), "Empty array");
+        assertTrue(parallel.invoke(() -> App.isSorted(List.of())), "Empty list is sorted");
+    }
+
+    @Test
+    @DisplayName("invoke runs in the policy's pool and restores the previous policy")
+    void testInvoke() {
+        Thread worker = parallel.invoke(Thread::currentThread);
+        assertTrue(worker instanceof ForkJoinWorkerThread, "Ran on a pool worker");
+        assertSame(pool, ((ForkJoinWorkerThread) worker).getPool(), "Ran in the given pool");
+        assertSame(parallel, parallel.invoke(ParallelPolicy::current), "Policy in effect");
+        assertSame(
+                ParallelPolicy.SEQUENTIAL,
+                parallel.invoke(() -> ParallelPolicy.SEQUENTIAL.invoke(ParallelPolicy::current)),
+                "Nested invoke overrides");
+        assertSame(ParallelPolicy.SEQUENTIAL, ParallelPolicy.current(), "Restored afterwards");
+        assertSame(
+                Thread.currentThread(),
+                ParallelPolicy.SEQUENTIAL.invoke(Thread::currentThread),
+                "Sequential runs on the caller");
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        parallel.invoke(
+                                () -> {
+                                    throw new IllegalStateException("boom");
+                                }),
+                "Exceptions propagate");
+        assertThrows(IllegalArgumentException.class, () -> ParallelPolicy.of(pool, -1), "< 0");
+    }
+
+    @Test
+    @DisplayName("Inputs below the threshold stay sequential")
+    void testThreshold() {
+        ParallelPolicy policy = ParallelPolicy.of(pool, 100);
+        assertFalse(policy.isParallel(99), "Below threshold");
+        assertTrue(policy.isParallel(100), "At threshold");
+        assertFalse(ParallelPolicy.SEQUENTIAL.isParallel(Integer.MAX_VALUE), "Never parallel");
+    }
+}
@@ -0,0 +1,41 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("PersonColumns (columnar person store) Unit Tests")
+class PersonColumnsTest {
+
+    @Test
+    @DisplayName("filterPersonsByCity matches the App list operation")
+    void testMatchesApp() {
+        Random rnd = new Random(20);
+        String[] cities = {"City X", "City Y", "Berlin", null};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            persons.add(new Person("p" + rnd.nextInt(300), cities[rnd.nextInt(cities.length)]));
+        }
+        PersonColumns columns = PersonColumns.of(persons);
+        for (String city : List.of("City X", "City Y", "Berlin", "Oslo")) {
+            List<Person> expected = App.filterPersonsByCity(persons, city);
+            assertEquals(expected, App.filterPersonsByCity(columns, city), "Persons in " + city);
+            assertEquals(expected.size(), columns.countInCity(city), "Count in " + city);
+        }
+        for (int row = 0; row < persons.size(); row++) {
+            assertEquals(persons.get(row), columns.person(row), "Person at row " + row);
+        }
+    }
+
+    @Test
+    @DisplayName("Unknown cities give no rows")
+    void testUnknownCity() {
+        PersonColumns columns = new PersonColumns();
+        columns.add("Ann", "Oslo");
+        assertEquals(0, columns.rowsInCity("Paris").size(), "No rows for an unknown city");
+        assertEquals(IntList.of(0), columns.rowsInCity("Oslo"), "Oslo row");
+        assertEquals("Ann", columns.name(0), "Name decodes");
+    }
+}
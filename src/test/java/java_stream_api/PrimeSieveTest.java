@@ -0,0 +1,94 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("PrimeSieve (cached segmented sieve) Unit Tests")
+class PrimeSieveTest {
+
+    private static boolean trialDivision(int n) {
+        if (n < 2) return false;
+        for (int i = 2; (long) i * i <= n; i++) if (n % i == 0) return false;
+        return true;
+    }
+
+    @Test
+    @DisplayName("Matches trial division while the bitmap grows")
+    void testMatchesTrialDivision() {
+        PrimeSieve sieve = new PrimeSieve(1_500_000);
+        for (int n = -10; n <= 1_500_010; n++) {
+            if (sieve.isPrime(n) != trialDivision(n)) fail("Wrong answer for " + n);
+        }
+        assertEquals(1_500_000, sieve.cachedLimit(), "Grew up to the maximum");
+    }
+
+    @Test
+    @DisplayName("Miller-Rabin agrees with BigInteger beyond the cache")
+    void testMillerRabin() {
+        PrimeSieve sieve = new PrimeSieve(1_000);
+        Random rnd = new Random(8);
+        for (int i = 0; i < 100_000; i++) {
+            int n = rnd.nextInt(Integer.MAX_VALUE - 1_000) + 1_000;
+            boolean expected = BigInteger.valueOf(n).isProbablePrime(60);
+            assertEquals(expected, sieve.isPrime(n), "Primality of " + n);
+        }
+        // Strong pseudoprimes to base 2 (and 3), and Carmichael numbers.
+        for (int n : new int[] {2047, 1373653, 25326001, 561, 1105, 1729, 4033}) {
+            assertFalse(PrimeSieve.millerRabin(n), n + " is composite");
+        }
+        assertTrue(sieve.isPrime(Integer.MAX_VALUE), "2^31 - 1 is prime");
+        assertEquals(1_000, sieve.cachedLimit(), "Never grew past the maximum");
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups see a consistent bitmap while it grows")
+    void testConcurrentGrowth() throws Exception {
+        PrimeSieve sieve = new PrimeSieve(1 << 22);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> mismatches = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long seed = t;
+                mismatches.add(
+                        executor.submit(
+                                () -> {
+                                    Random rnd = new Random(seed);
+                                    int wrong = 0;
+                                    for (int i = 0; i < 20_000; i++) {
+                                        int n = rnd.nextInt(1 << 22);
+                                        if (sieve.isPrime(n) != trialDivision(n)) wrong++;
+                                    }
+                                    return wrong;
+                                }));
+            }
+            for (Future<Integer> wrong : mismatches) assertEquals(0, wrong.get(), "No mismatches");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("partitionPrimes matches trial division, also in parallel")
+    void testPartitionPrimes() {
+        List<Integer> ints =
+                new Random(2).ints(50_000, -10, 5_000_000).boxed().collect(Collectors.toList());
+        Map<Boolean, List<Integer>> expected =
+                ints.stream().collect(Collectors.partitioningBy(PrimeSieveTest::trialDivision));
+        assertEquals(expected, App.partitionPrimes(ints), "Sequential partition");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(
+                    expected,
+                    ParallelPolicy.of(pool, 0).invoke(() -> App.partitionPrimes(ints)),
+                    "Parallel partition");
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new PrimeSieve(1), "Max below 2");
+    }
+}
@@ -0,0 +1,100 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Products (short-circuiting product reduction) Unit Tests")
+class ProductsTest {
+
+    private static BigInteger expected(int[] ints) {
+        return Arrays.stream(ints)
+                .mapToObj(BigInteger::valueOf)
+                .reduce(BigInteger.ONE, BigInteger::multiply);
+    }
+
+    @Test
+    @DisplayName("Wrapping int product matches reduce(1, a * b)")
+    void testIntProduct() {
+        Random rnd = new Random(3);
+        for (int n = 0; n < 200; n++) {
+            int[] ints = rnd.ints(rnd.nextInt(100_000), -9, 10).map(x -> x == 0 ? 7 : x).toArray();
+            int reduced = Arrays.stream(ints).reduce(1, (a, b) -> a * b);
+            assertEquals(reduced, Products.product(ints), "Sequential product #" + n);
+            assertEquals(reduced, Products.parallelProduct(ints), "Parallel product #" + n);
+        }
+        assertEquals(1, Products.product(new int[0]), "Empty product is 1");
+        assertEquals(1, Products.parallelProduct(new int[0]), "Empty parallel product is 1");
+    }
+
+    @Test
+    @DisplayName("Filters select the factors")
+    void testFilter() {
+        int[] ints = {1, 2, 3, 4, 5, 6};
+        assertEquals(48, Products.product(ints, n -> n % 2 == 0), "2 * 4 * 6");
+        assertEquals(15L, Products.exactProduct(ints, n -> n % 2 != 0), "1 * 3 * 5");
+        assertEquals(BigInteger.valueOf(48), Products.bigProduct(ints, n -> n % 2 == 0), "Big");
+        assertEquals(
+                Products.product(IntStream.range(0, 50_000).toArray(), n -> n % 2 == 0),
+                Products.parallelProduct(IntStream.range(0, 50_000).toArray(), n -> n % 2 == 0),
+                "Same filtered product in parallel");
+    }
+
+    @Test
+    @DisplayName("A zero factor decides the product in every mode")
+    void testZero() {
+        int[] ints = new int[1_000_000];
+        Arrays.fill(ints, Integer.MAX_VALUE);
+        ints[123_456] = 0;
+        assertEquals(0, Products.product(ints), "int");
+        assertEquals(0, Products.parallelProduct(ints), "Parallel int");
+        assertEquals(0L, Products.exactProduct(ints), "Overflow before the 0 is not an error");
+        assertEquals(0L, Products.parallelExactProduct(ints), "Parallel long");
+        assertEquals(BigInteger.ZERO, Products.bigProduct(ints), "BigInteger");
+        assertEquals(BigInteger.ZERO, Products.parallelBigProduct(ints), "Parallel BigInteger");
+    }
+
+    @Test
+    @DisplayName("Exact long product signals overflow")
+    void testExactProduct() {
+        int[] fits = {Integer.MIN_VALUE, Integer.MIN_VALUE, -2};
+        int[] overflows = {Integer.MIN_VALUE, Integer.MIN_VALUE, 2};
+        assertEquals(Long.MIN_VALUE, Products.exactProduct(fits), "-2^63 fits");
+        assertThrows(
+                ArithmeticException.class, () -> Products.exactProduct(overflows), "2^63 does not");
+        int[] large = new int[100_000];
+        Arrays.fill(large, -3);
+        assertThrows(
+                ArithmeticException.class, () -> Products.parallelExactProduct(large), "3^100000");
+        int[] small = IntStream.rangeClosed(1, 20).toArray();
+        assertEquals(2432902008176640000L, Products.exactProduct(small), "20!");
+        assertEquals(2432902008176640000L, Products.parallelExactProduct(small), "Parallel 20!");
+    }
+
+    @Test
+    @DisplayName("BigInteger product is exact, sequential and parallel")
+    void testBigProduct() {
+        Random rnd = new Random(5);
+        int[] ints =
+                rnd.ints(30_000, 1, Integer.MAX_VALUE)
+                        .map(n -> rnd.nextBoolean() ? n : -n)
+                        .toArray();
+        BigInteger expected = expected(ints);
+        assertEquals(expected, Products.bigProduct(ints), "Sequential");
+        assertEquals(expected, Products.parallelBigProduct(ints), "Parallel");
+        assertEquals(BigInteger.ONE, Products.bigProduct(new int[0]), "Empty");
+    }
+
+    @Test
+    @DisplayName("App routes multiplyAll and productOfEvens through Products")
+    void testApp() {
+        List<Integer> evens = Collections.nCopies(40, 2);
+        assertEquals(0, App.multiplyAll(evens), "2^40 wraps to 0");
+        assertEquals(24, App.multiplyAll(List.of(1, 2, 3, 4)), "4!");
+        assertEquals(8, App.productOfEvens(List.of(1, 2, 3, 4)), "2 * 4");
+        assertEquals(1, App.productOfEvens(List.of(1, 3)), "No evens");
+    }
+}
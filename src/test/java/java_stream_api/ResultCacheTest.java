@@ -0,0 +1,227 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("ResultCache (memoized App results) Unit Tests")
+class ResultCacheTest {
+
+    @Test
+    @DisplayName("Identity keys hit on the same input and version only")
+    void testIdentityKeys() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        List<String> strings = new ArrayList<>(List.of("a", "bb", "cc", "a"));
+        AtomicInteger computations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            Map<Integer, List<String>> groups = cache.computeIfAbsent(
+                    ResultCache.identityKey("groupStringsByLength", strings, 1),
+                    () -> {
+                        computations.incrementAndGet();
+                        return App.groupStringsByLength(strings);
+                    });
+            assertEquals(App.groupStringsByLength(strings), groups, "Cached result is correct");
+        }
+        assertEquals(1, computations.get(), "Computed once for three calls");
+        strings.add("ddd");
+        Map<Integer, List<String>> changed = cache.computeIfAbsent(
+                ResultCache.identityKey("groupStringsByLength", strings, 2),
+                () -> App.groupStringsByLength(strings));
+        assertEquals(List.of("ddd"), changed.get(3), "New version recomputes");
+        List<String> equalCopy = new ArrayList<>(strings);
+        assertNotEquals(
+                changed,
+                cache.computeIfAbsent(
+                        ResultCache.identityKey("groupStringsByLength", equalCopy, 2),
+                        () -> Map.of()),
+                "Another object with equal contents is a different identity key");
+        assertEquals(2, cache.getHitCount(), "Hits");
+        assertEquals(3, cache.getMissCount(), "Misses");
+    }
+
+    @Test
+    @DisplayName("Content keys hit on equal inputs and distinguish operations and parameters")
+    void testContentKeys() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        List<String> words = List.of("one", "two", "two", "one", "three");
+        List<String> duplicates = cache.computeIfAbsent(
+                ResultCache.contentKey("duplicateStrings", words),
+                () -> App.duplicateStrings(words));
+        assertSame(
+                duplicates,
+                cache.computeIfAbsent(
+                        ResultCache.contentKey("duplicateStrings", new ArrayList<>(words)),
+                        () -> fail("Equal contents must hit")),
+                "Equal input hits");
+        List<Integer> ints = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        Object primes = cache.computeIfAbsent(
+                ResultCache.contentKey("partitionPrimes", ints),
+                () -> App.partitionPrimes(ints));
+        assertEquals(App.partitionPrimes(ints), primes, "Cached partition");
+        Object first3 = cache.computeIfAbsent(
+                ResultCache.contentKey("keep", ints, 3), () -> ints.subList(0, 3));
+        Object first4 = cache.computeIfAbsent(
+                ResultCache.contentKey("keep", ints, 4), () -> ints.subList(0, 4));
+        assertNotEquals(first3, first4, "Parameters are part of the key");
+        assertEquals(1, cache.getHitCount(), "One hit");
+    }
+
+    @Test
+    @DisplayName("int[] content keys and array parameters match by contents")
+    void testArrayContentKeys() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        int[] ints = {4, -1, 7, 0};
+        IntList evens = cache.computeIfAbsent(
+                ResultCache.contentKey("filterEvenNumbers", ints),
+                () -> App.filterEvenNumbers(ints));
+        assertSame(
+                evens,
+                cache.computeIfAbsent(
+                        ResultCache.contentKey("filterEvenNumbers", ints.clone()),
+                        () -> fail("Equal array must hit")),
+                "Equal array hits");
+        ints[0] = 6;
+        assertEquals(
+                IntList.of(6, 0),
+                cache.computeIfAbsent(
+                        ResultCache.contentKey("filterEvenNumbers", ints),
+                        () -> App.filterEvenNumbers(ints)),
+                "Changing the caller's array after storing misses");
+        int[] limits = {1, 2};
+        Object first = cache.computeIfAbsent(
+                ResultCache.contentKey("op", List.of(1), (Object) limits), () -> "computed");
+        limits[0] = 5;
+        assertSame(
+                first,
+                cache.computeIfAbsent(
+                        ResultCache.contentKey("op", List.of(1), (Object) new int[] {1, 2}),
+                        () -> fail("Equal array parameter must hit")),
+                "Array parameters compare by contents and are copied when stored");
+        assertEquals(
+                "recomputed",
+                cache.computeIfAbsent(
+                        ResultCache.contentKey("op", List.of(1), (Object) limits),
+                        () -> "recomputed"),
+                "Different array parameter misses");
+        assertEquals(2, cache.getHitCount(), "Hits");
+    }
+
+    @Test
+    @DisplayName("Results are frozen deeply and detached from the computed value")
+    void testFrozenResults() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        Map<Integer, List<String>> computed = new HashMap<>();
+        computed.put(1, new ArrayList<>(List.of("a")));
+        Map<Integer, List<String>> cached =
+                cache.computeIfAbsent(ResultCache.contentKey("op", List.of()), () -> computed);
+        computed.get(1).add("b");
+        assertEquals(List.of("a"), cached.get(1), "Changes to the computed value do not leak");
+        assertThrows(
+                UnsupportedOperationException.class, () -> cached.put(2, List.of()), "Map frozen");
+        assertThrows(
+                UnsupportedOperationException.class, () -> cached.get(1).add("c"), "List frozen");
+    }
+
+    @Test
+    @DisplayName("IntList and array results cannot be changed through a hit")
+    void testFrozenPrimitiveResults() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        int[] input = {1, -2, 3, -4};
+        ResultCache.Key squaresKey = ResultCache.identityKey("listOfSquares", input, 0);
+        IntList squares = cache.computeIfAbsent(squaresKey, () -> App.listOfSquares(input));
+        assertThrows(UnsupportedOperationException.class, () -> squares.set(0, 99), "No set");
+        assertThrows(UnsupportedOperationException.class, () -> squares.add(5), "No add");
+        assertThrows(UnsupportedOperationException.class, squares::clear, "No clear");
+        assertEquals(
+                IntList.of(1, 4, 9, 16),
+                cache.computeIfAbsent(squaresKey, () -> fail("Must hit")),
+                "Next hit unchanged");
+
+        ResultCache.Key arrayKey = ResultCache.identityKey("toArray", input, 0);
+        int[] first = cache.computeIfAbsent(arrayKey, input::clone);
+        first[0] = 99;
+        int[] second = cache.computeIfAbsent(arrayKey, () -> fail("Must hit"));
+        assertArrayEquals(input, second, "Changing one hit's array leaves the next intact");
+        second[1] = 99;
+        assertArrayEquals(
+                input,
+                cache.<int[]>computeIfAbsent(arrayKey, () -> fail("Must hit")),
+                "Every hit gets its own copy");
+
+        ResultCache.Key pairsKey = ResultCache.identityKey("pairsThatSumTo", input, 0, 1);
+        List<int[]> pairs = cache.computeIfAbsent(pairsKey, () -> App.pairsThatSumTo(input, 1));
+        pairs.get(0)[0] = 99;
+        List<int[]> again = cache.computeIfAbsent(pairsKey, () -> fail("Must hit"));
+        assertEquals(
+                App.pairsThatSumTo(input, 1).stream()
+                        .map(Arrays::toString)
+                        .collect(Collectors.toList()),
+                again.stream().map(Arrays::toString).collect(Collectors.toList()),
+                "Arrays nested in a list are copied too");
+    }
+
+    @Test
+    @DisplayName("Sorted results stay sorted by the same comparator when frozen")
+    void testFrozenSortedResults() {
+        ResultCache cache = new ResultCache(10, 1_000);
+        TreeMap<String, Integer> computedMap = new TreeMap<>(Comparator.reverseOrder());
+        computedMap.putAll(Map.of("a", 1, "c", 3, "b", 2));
+        Map<String, Integer> cachedMap =
+                cache.computeIfAbsent(ResultCache.contentKey("map", List.of()), () -> computedMap);
+        SortedMap<String, Integer> sortedMap =
+                assertInstanceOf(SortedMap.class, cachedMap, "Still a sorted map");
+        assertEquals(computedMap.comparator(), sortedMap.comparator(), "Same map comparator");
+        assertEquals(List.of("c", "b", "a"), new ArrayList<>(sortedMap.keySet()), "Key order");
+        assertThrows(
+                UnsupportedOperationException.class, () -> sortedMap.put("d", 4), "Map frozen");
+
+        TreeSet<Integer> computedSet = new TreeSet<>(Comparator.reverseOrder());
+        computedSet.addAll(List.of(1, 3, 2));
+        Set<Integer> cachedSet =
+                cache.computeIfAbsent(ResultCache.contentKey("set", List.of()), () -> computedSet);
+        SortedSet<Integer> sortedSet =
+                assertInstanceOf(SortedSet.class, cachedSet, "Still a sorted set");
+        assertEquals(computedSet.comparator(), sortedSet.comparator(), "Same set comparator");
+        assertEquals(List.of(3, 2, 1), new ArrayList<>(sortedSet), "Element order");
+        assertThrows(UnsupportedOperationException.class, () -> sortedSet.add(4), "Set frozen");
+    }
+
+    @Test
+    @DisplayName("Entry and weight bounds evict least recently used entries")
+    void testEviction() {
+        ResultCache bySize = new ResultCache(2, 1_000);
+        bySize.computeIfAbsent(ResultCache.contentKey("a", List.of()), () -> 1);
+        bySize.computeIfAbsent(ResultCache.contentKey("b", List.of()), () -> 2);
+        bySize.computeIfAbsent(ResultCache.contentKey("a", List.of()), () -> 0);
+        bySize.computeIfAbsent(ResultCache.contentKey("c", List.of()), () -> 3);
+        assertEquals(2, bySize.size(), "Two entries at most");
+        assertEquals(1, bySize.getEvictionCount(), "One eviction");
+        assertEquals(
+                1,
+                (int) bySize.computeIfAbsent(ResultCache.contentKey("a", List.of()), () -> 0),
+                "Recently used a survived");
+        assertEquals(
+                0,
+                (int) bySize.computeIfAbsent(ResultCache.contentKey("b", List.of()), () -> 0),
+                "Least recently used b was evicted");
+
+        ResultCache byWeight = new ResultCache(100, 25);
+        List<Integer> ten = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+        byWeight.computeIfAbsent(ResultCache.contentKey("x", List.of()), () -> ten);
+        byWeight.computeIfAbsent(ResultCache.contentKey("y", List.of()), () -> ten);
+        byWeight.computeIfAbsent(ResultCache.contentKey("z", List.of()), () -> ten);
+        assertEquals(22, byWeight.weight(), "Two 11-weight results fit in 25");
+        assertEquals(2, byWeight.size(), "Oldest evicted by weight");
+        List<Integer> huge = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        assertEquals(
+                huge,
+                byWeight.computeIfAbsent(ResultCache.contentKey("h", List.of()), () -> huge),
+                "Oversized results are returned");
+        assertEquals(2, byWeight.size(), "but not cached");
+        byWeight.invalidateAll();
+        assertEquals(0, byWeight.weight(), "Invalidation clears the weight");
+    }
+}
@@ -0,0 +1,78 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("StringFrequencyTable (open-addressing string counter) Unit Tests")
+class StringFrequencyTableTest {
+
+    @Test
+    @DisplayName("Counts match groupingBy/counting through many resizes")
+    void testMatchesGroupingBy() {
+        Random rnd = new Random(1);
+        List<String> words =
+                IntStream.range(0, 50_000)
+                        .mapToObj(i -> "w" + rnd.nextInt(5_000))
+                        .collect(Collectors.toList());
+        StringFrequencyTable table = new StringFrequencyTable();
+        words.forEach(table::add);
+        Map<String, Long> expected =
+                words.stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertEquals(expected, table.toMap(), "Same counts as groupingBy");
+        assertEquals(expected.size(), table.size(), "One entry per distinct key");
+        assertEquals(0, table.count("missing"), "Absent keys count 0");
+    }
+
+    @Test
+    @DisplayName("Keeps first-insertion order and colliding hash codes apart")
+    void testOrderAndCollisions() {
+        // "Aa" and "BB" share String.hashCode.
+        StringFrequencyTable table = new StringFrequencyTable(1);
+        Stream.of("BB", "Aa", "c", "Aa", "BB", "BB").forEach(table::add);
+        assertEquals(3, table.count("BB"), "BB counted 3 times");
+        assertEquals(2, table.count("Aa"), "Aa counted twice");
+        List<String> order = new ArrayList<>();
+        table.forEach((key, count) -> order.add(key + "=" + count));
+        assertEquals(Arrays.asList("BB=3", "Aa=2", "c=1"), order, "Insertion order");
+        assertEquals("Aa", table.keyAt(1), "Indexed access");
+        assertThrows(NullPointerException.class, () -> table.add(null), "Null keys rejected");
+    }
+
+    @Test
+    @DisplayName("Queries and parallel merging")
+    void testQueriesAndMerge() {
+        List<String> input = Arrays.asList("a", "b", "a", "c", "b", "d", "a");
+        StringFrequencyTable table =
+                input.parallelStream()
+                        .collect(
+                                StringFrequencyTable::new,
+                                StringFrequencyTable::add,
+                                StringFrequencyTable::addAll);
+        assertEquals(Optional.of("a"), table.mostFrequent(), "Most frequent");
+        assertEquals(Optional.of("c"), table.firstWithCount(1), "First single occurrence");
+        assertEquals(Arrays.asList("a", "b"), table.keysWithCountAbove(1), "Duplicates in order");
+        assertEquals(Optional.empty(), new StringFrequencyTable().mostFrequent(), "Empty table");
+    }
+
+    @Test
+    @DisplayName("App counting methods keep their results")
+    void testApp() {
+        List<String> input = Arrays.asList("one", "two", "two", "one", "three", "one");
+        assertEquals(Arrays.asList("one", "two"), App.duplicateStrings(input), "Duplicates");
+        assertEquals(Optional.of("one"), App.mostFrequentString(input), "Most frequent");
+        assertEquals(Optional.of("three"), App.firstNonRepeatingString(input), "Non-repeating");
+        assertEquals(
+                Map.of(0, 1L, 3, 2L, 5, 1L),
+                App.lengthToCountMap(Arrays.asList("one", "", "three", "two")),
+                "Length histogram");
+        assertEquals(
+                Map.of("a", 2L, "b", 1L),
+                App.lowerCaseFrequency(Arrays.asList("A", "a", "B")),
+                "Lowercase frequency");
+    }
+}
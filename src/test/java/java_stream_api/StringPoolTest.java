@@ -0,0 +1,96 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("StringPool (bounded string canonicalization) Unit Tests")
+class StringPoolTest {
+
+    @Test
+    @DisplayName("Equal strings and slices intern to one instance and count as hits")
+    void testIntern() {
+        StringPool pool = new StringPool(100);
+        String first = pool.intern(new String("Berlin"));
+        assertSame(first, pool.intern(new String("Berlin")), "Equal string gives same instance");
+        assertSame(first, pool.intern("in Berlin now", 3, 9), "Equal slice gives same instance");
+        assertEquals("Oslo", pool.intern(new StringBuilder("Oslo!"), 0, 4), "Miss creates it");
+        assertNull(pool.intern(null), "null stays null");
+        assertEquals(2, pool.getHitCount(), "Two hits");
+        assertEquals(2, pool.getMissCount(), "Two misses");
+        assertEquals(0.5, pool.getHitRate(), 1e-9, "Hit rate");
+        assertEquals(2, pool.size(), "Two distinct values");
+        assertEquals(0.0, new StringPool(1).getHitRate(), "No lookups, no hit rate");
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(0), "Bad max size");
+    }
+
+    @Test
+    @DisplayName("The pool stays within its bound and evicts least recently used values")
+    void testEviction() {
+        StringPool pool = new StringPool(1);
+        String a = pool.intern(new String("a"));
+        pool.intern(new String("b"));
+        assertEquals(1, pool.size(), "One value at most");
+        assertEquals(1, pool.getEvictionCount(), "a was evicted");
+        assertNotSame(a, pool.intern(new String("a")), "Evicted value gets a new instance");
+
+        StringPool bigger = new StringPool(64);
+        for (int i = 0; i < 10_000; i++) bigger.intern("v" + i);
+        assertTrue(bigger.size() <= 64, "Size within the bound: " + bigger.size());
+        assertEquals(10_000 - bigger.size(), bigger.getEvictionCount(), "Evictions accounted");
+    }
+
+    @Test
+    @DisplayName("Concurrent interning gives every thread the same instance")
+    void testConcurrentIntern() throws Exception {
+        StringPool pool = new StringPool(1_000);
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> interned = new ArrayList<>();
+                    for (int i = 0; i < 500; i++) interned.add(pool.intern(new String("k" + i)));
+                    return interned;
+                }));
+            }
+            List<String> first = futures.get(0).get();
+            for (Future<List<String>> future : futures) {
+                List<String> interned = future.get();
+                for (int i = 0; i < 500; i++) {
+                    assertSame(first.get(i), interned.get(i), "Shared instance for k" + i);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(500, pool.getMissCount(), "One miss per distinct value");
+        assertEquals(3 * 500, pool.getHitCount(), "Every other lookup hits");
+    }
+
+    @Test
+    @DisplayName("Persons, users, tokens and frequency tables share pooled instances")
+    void testIntegration() {
+        StringPool pool = new StringPool(100);
+        Person ann = new Person(new String("Ann"), new String("City X"), pool);
+        Person bob = new Person(new String("Bob"), new String("City X"), pool);
+        assertSame(ann.getCity(), bob.getCity(), "Cities shared");
+        assertEquals(new Person("Ann", "City X"), ann, "Equality unchanged");
+        User user = new User(new String("Ann"), 30, pool);
+        assertSame(ann.getName(), user.getName(), "Names shared across types");
+
+        List<String> tokens = WordTokenizer.tokens("City X and City X", pool)
+                .collect(Collectors.toList());
+        assertEquals(List.of("City", "X", "and", "City", "X"), tokens, "Tokens unchanged");
+        assertSame(tokens.get(0), tokens.get(3), "Repeated tokens shared");
+
+        StringFrequencyTable table = new StringFrequencyTable(16, pool);
+        table.addWords("City X and more");
+        assertSame(tokens.get(0), table.keyAt(0), "Table keys come from the pool");
+        assertEquals(1, table.count("City"), "Counting unchanged");
+    }
+}
@@ -0,0 +1,100 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("Substrings (lazy substring enumeration) Unit Tests")
+class SubstringsTest {
+
+    private static List<String> nestedLoops(String s) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < s.length(); i++) {
+            for (int j = i + 1; j <= s.length(); j++) result.add(s.substring(i, j));
+        }
+        return result;
+    }
+
+    private static List<String> strings(Stream<CharSlice> slices) {
+        return slices.map(CharSlice::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Enumerates substrings in nested-loop order, sequential and parallel")
+    void testOrder() {
+        for (String s : List.of("", "a", "ab", "abc", "hello world", "x".repeat(97))) {
+            List<String> expected = nestedLoops(s);
+            assertEquals(expected, strings(Substrings.of(s)), "Sequential \"" + s + "\"");
+            assertEquals(expected, strings(Substrings.of(s).parallel()), "Parallel \"" + s + "\"");
+            assertEquals(expected.size(), Substrings.of(s).count(), "Count \"" + s + "\"");
+            List<String> fromOffsets = new ArrayList<>();
+            Substrings.forEach(s, (start, end) -> fromOffsets.add(s.substring(start, end)));
+            assertEquals(expected, fromOffsets, "Offsets \"" + s + "\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Splits report exact sizes and resume at the right position")
+    void testSplitting() {
+        String s = "abcdefghijklmnopq";
+        Spliterator<CharSlice> whole = Substrings.of(s).spliterator();
+        assertTrue(whole.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), "Sized");
+        long total = whole.estimateSize();
+        Spliterator<CharSlice> first = whole.trySplit();
+        assertEquals(total, first.estimateSize() + whole.estimateSize(), "Sizes add up");
+        List<String> joined = new ArrayList<>();
+        first.tryAdvance(slice -> joined.add(slice.toString()));
+        first.forEachRemaining(slice -> joined.add(slice.toString()));
+        whole.forEachRemaining(slice -> joined.add(slice.toString()));
+        assertEquals(nestedLoops(s), joined, "Both halves together give everything once");
+    }
+
+    @Test
+    @DisplayName("Large inputs are counted and hashed without materializing substrings")
+    void testLarge() {
+        String big = "ab".repeat(50_000);
+        assertEquals(Substrings.count(100_000), Substrings.of(big).count(), "O(1) count");
+        String mid = "abc".repeat(300);
+        long distinctHashes =
+                Substrings.of(mid).parallel().mapToInt(CharSlice::hashCode).distinct().count();
+        long expected =
+                nestedLoops(mid).stream().mapToInt(String::hashCode).distinct().count();
+        assertEquals(expected, distinctHashes, "Hashes match String.hashCode");
+    }
+
+    @Test
+    @DisplayName("Only immutable sources are reported IMMUTABLE")
+    void testImmutable() {
+        String s = "abcd";
+        assertTrue(
+                Substrings.of(s).spliterator().hasCharacteristics(Spliterator.IMMUTABLE),
+                "String source");
+        assertTrue(
+                Substrings.of(new CharSlice(s, 1, 3))
+                        .spliterator()
+                        .hasCharacteristics(Spliterator.IMMUTABLE),
+                "Slice of a String");
+        Spliterator<CharSlice> mutable = Substrings.of(new StringBuilder(s)).spliterator();
+        assertFalse(mutable.hasCharacteristics(Spliterator.IMMUTABLE), "StringBuilder source");
+        assertFalse(
+                mutable.trySplit().hasCharacteristics(Spliterator.IMMUTABLE), "Split prefix");
+        assertTrue(mutable.hasCharacteristics(Spliterator.SIZED), "Still SIZED");
+    }
+
+    @Test
+    @DisplayName("Prefixes and App operations keep their results")
+    void testPrefixesAndApp() {
+        assertEquals(List.of("a", "ab", "abc"), strings(Substrings.prefixes("abc")), "Prefixes");
+        assertEquals(0, Substrings.prefixes("").count(), "No prefixes of \"\"");
+        List<String> input = List.of("ab", "", "xyz");
+        assertEquals(
+                List.of("a", "ab", "b", "x", "xy", "xyz", "y", "yz", "z"),
+                App.allSubstrings(input),
+                "allSubstrings");
+        assertEquals(
+                List.of("a", "ab", "x", "xy", "xyz"), App.getAllPrefixes(input), "getAllPrefixes");
+        assertEquals(9, App.substringViews(input).count(), "Lazy views");
+    }
+}
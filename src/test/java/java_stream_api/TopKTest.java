@@ -0,0 +1,105 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("TopK (bounded top-K selection) Unit Tests")
+class TopKTest {
+
+    private static int[] sortedDescending(int[] ints, int k) {
+        return Arrays.stream(ints)
+                .boxed()
+                .sorted(Comparator.reverseOrder())
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @Test
+    @DisplayName("Primitive largest and smallest match a full sort")
+    void testPrimitiveMatchesSort() {
+        Random rnd = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            int[] ints = rnd.ints(rnd.nextInt(200), -50, 50).toArray();
+            int k = rnd.nextInt(20);
+            int[] expected = sortedDescending(ints, k);
+            assertArrayEquals(expected, TopK.largest(ints, k), "largest, round " + round);
+            assertArrayEquals(expected, TopK.parallelLargest(ints, k), "parallel, round " + round);
+            int[] ascending = Arrays.stream(ints).sorted().limit(k).toArray();
+            assertArrayEquals(ascending, TopK.smallest(ints, k), "smallest, round " + round);
+            assertArrayEquals(
+                    ascending, TopK.parallelSmallest(ints, k), "parallel smallest, round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Handles extreme values and k larger than the input")
+    void testEdges() {
+        int[] ints = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        assertArrayEquals(
+                new int[] {Integer.MAX_VALUE, 0, Integer.MIN_VALUE},
+                TopK.largest(ints, 10),
+                "All values, largest first");
+        assertArrayEquals(
+                new int[] {Integer.MIN_VALUE, 0}, TopK.smallest(ints, 2), "Smallest two");
+        assertArrayEquals(
+                new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+                TopK.parallelSmallest(ints, Integer.MAX_VALUE),
+                "Unbounded k allocates only for the input");
+        assertArrayEquals(
+                new int[] {Integer.MAX_VALUE, 0},
+                TopK.largestDistinct(new int[] {0, Integer.MAX_VALUE, 0}, Integer.MAX_VALUE),
+                "Unbounded k, distinct");
+        assertEquals(0, TopK.largest(ints, 0).length, "k = 0 selects nothing");
+        assertThrows(IllegalArgumentException.class, () -> TopK.largest(ints, -1), "Negative k");
+    }
+
+    @Test
+    @DisplayName("Distinct variant skips repeated values")
+    void testLargestDistinct() {
+        assertArrayEquals(
+                new int[] {9, 7, 5},
+                TopK.largestDistinct(new int[] {9, 9, 7, 5, 7, 1}, 3),
+                "Distinct top three");
+    }
+
+    @Test
+    @DisplayName("Comparator collector is stable, sequential and parallel")
+    void testCollectorStable() {
+        List<String> words =
+                IntStream.range(0, 5000)
+                        .mapToObj(i -> "w".repeat(1 + i % 7) + "#" + i)
+                        .collect(Collectors.toList());
+        Comparator<String> byPrefixLength = Comparator.comparingInt(s -> s.indexOf('#'));
+        List<String> expected =
+                words.stream()
+                        .sorted(byPrefixLength.reversed())
+                        .limit(25)
+                        .collect(Collectors.toList());
+        assertEquals(expected, words.stream().collect(TopK.largest(25, byPrefixLength)), "Seq");
+        assertEquals(
+                expected,
+                words.parallelStream().collect(TopK.largest(25, byPrefixLength)),
+                "Parallel");
+    }
+
+    @Test
+    @DisplayName("App methods routed through TopK keep their results")
+    void testApp() {
+        assertEquals(
+                Arrays.asList("ccc", "bbb", "dd"),
+                App.nLongestStrings(Arrays.asList("a", "ccc", "dd", "bbb", "e"), 3),
+                "Longest first, ties in encounter order");
+        assertEquals(Optional.of(7), App.secondLargest(Arrays.asList(9, 9, 7, 5)), "Distinct");
+        assertEquals(Optional.empty(), App.secondLargest(Arrays.asList(4, 4)), "Single value");
+        List<Integer> top5 = App.top5Of100Random();
+        assertEquals(5, top5.size(), "Five numbers");
+        assertEquals(
+                top5.stream().sorted(Comparator.reverseOrder()).collect(Collectors.toList()),
+                top5,
+                "Descending order");
+    }
+}
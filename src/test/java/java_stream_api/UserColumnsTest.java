@@ -0,0 +1,79 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("UserColumns (columnar user store) Unit Tests")
+class UserColumnsTest {
+
+    private static List<User> randomUsers(long seed, int size) {
+        Random rnd = new Random(seed);
+        String[] hobbies = {"chess", "music", "hiking", "reading"};
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            User user = new User("user" + rnd.nextInt(size + 1), rnd.nextInt(90));
+            for (int h = rnd.nextInt(4); h > 0; h--) {
+                user.getHobbies().add(hobbies[rnd.nextInt(hobbies.length)]);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    @Test
+    @DisplayName("Column operations match the App list operations")
+    void testMatchesApp() {
+        for (long seed = 0; seed < 10; seed++) {
+            List<User> users = randomUsers(seed, (int) seed * 50);
+            UserColumns columns = UserColumns.of(users);
+            assertEquals(users.size(), columns.size(), "Size");
+            assertEquals(
+                    App.namesOfUsersOlderThan18(users),
+                    App.namesOfUsersOlderThan18(columns),
+                    "Names older than 18");
+            assertEquals(App.sortUsersByAge(users), App.sortUsersByAge(columns), "Sorted");
+            assertEquals(App.userWithMaxAge(users), App.userWithMaxAge(columns), "Max age");
+            assertEquals(
+                    App.groupUsersByBirthYear(users),
+                    App.groupUsersByBirthYear(columns),
+                    "Birth year groups");
+            assertEquals(
+                    App.totalHobbiesCount(users), App.totalHobbiesCount(columns), "Hobbies");
+        }
+    }
+
+    @Test
+    @DisplayName("Rows decode back to the added users, hobbies and nulls included")
+    void testRoundTrip() {
+        List<User> users = randomUsers(20, 300);
+        users.add(new User(null, 40));
+        UserColumns columns = new UserColumns(1);
+        users.forEach(columns::add);
+        for (int row = 0; row < users.size(); row++) {
+            User user = users.get(row);
+            assertEquals(user, columns.user(row), "User at row " + row);
+            assertEquals(user.getHobbies(), columns.hobbies(row), "Hobbies at row " + row);
+        }
+        assertNull(columns.name(users.size() - 1), "Null name survives");
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> columns.age(users.size()),
+                "Rows past the end are rejected");
+    }
+
+    @Test
+    @DisplayName("Sorting by age is stable and max age picks the first row")
+    void testTies() {
+        UserColumns columns = new UserColumns();
+        columns.add("b", 30, List.of());
+        columns.add("a", 20, List.of());
+        columns.add("c", 30, List.of("x"));
+        columns.add("d", -5, List.of());
+        assertEquals(IntList.of(3, 1, 0, 2), columns.rowsByAge(), "Stable age order");
+        assertEquals(0, columns.rowWithMaxAge(), "First of the oldest");
+        assertEquals(-1, new UserColumns().rowWithMaxAge(), "No row when empty");
+    }
+}
@@ -0,0 +1,83 @@
+package java_stream_api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+import org.junit.jupiter.api.*;
+
+@DisplayName("WordTokenizer (split-compatible char scanner) Unit Tests")
+class WordTokenizerTest {
+
+    private static List<String> tokens(String s) {
+        return WordTokenizer.tokens(s).map(CharSlice::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Tokens and counts match split(\"\\\\s+\") on edge cases")
+    void testEdgeCases() {
+        for (String s :
+                List.of("", " ", "\t\n", "a", " a", "a ", "  a  b  ", "a\u000Bb\fc\rd", "a b")) {
+            List<String> expected = Arrays.asList(s.split("\\s+"));
+            assertEquals(expected, tokens(s), "Tokens of \"" + s + "\"");
+            assertEquals(expected.size(), WordTokenizer.count(s), "Count of \"" + s + "\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Tokens and counts match split(\"\\\\s+\") on random text")
+    void testRandomText() {
+        Random rnd = new Random(9);
+        String alphabet = "ab \t\n\r\u000B\f";
+        for (int n = 0; n < 2_000; n++) {
+            char[] chars = new char[rnd.nextInt(12)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet.charAt(rnd.nextInt(alphabet.length()));
+            }
+            String s = new String(chars);
+            List<String> expected = Arrays.asList(s.split("\\s+"));
+            assertEquals(expected, tokens(s), "Tokens of " + Arrays.toString(chars));
+            assertEquals(expected.size(), WordTokenizer.count(s), "Count of " + s);
+        }
+    }
+
+    @Test
+    @DisplayName("CharSlice hashes and compares like the equivalent String")
+    void testCharSlice() {
+        CharSlice slice = new CharSlice("say hello there", 4, 9);
+        assertEquals("hello", slice.toString(), "Slice content");
+        assertEquals("hello".hashCode(), slice.hashCode(), "String-compatible hash");
+        assertTrue(slice.contentEquals("hello"), "Same characters as \"hello\"");
+        assertEquals(new CharSlice("hello", 0, 5), slice, "Equal to another slice of hello");
+        assertEquals("ell", slice.subSequence(1, 4).toString(), "Nested slice");
+        assertTrue(slice.compareTo(new CharSlice("help", 0, 4)) < 0, "hello sorts before help");
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.charAt(5), "Out of slice");
+    }
+
+    @Test
+    @DisplayName("Range counting lowercases like String.toLowerCase()")
+    void testLowerCaseRanges() {
+        StringFrequencyTable table = new StringFrequencyTable();
+        table.addLowerCaseWords(" The the THE Ärger ärger x");
+        assertEquals(
+                Map.of("", 1L, "the", 3L, "ärger", 2L, "x", 1L),
+                table.toMap(),
+                "ASCII and non-ASCII words counted lowercased");
+        table.add("xyz", 1, 2);
+        assertEquals(1, table.count("y"), "Plain range counted as is");
+    }
+
+    @Test
+    @DisplayName("App sentence operations keep their results")
+    void testAppOperations() {
+        List<String> sentences = List.of("Hello world", "  hello  Java ", "");
+        assertEquals(6, App.totalWordsInSentences(sentences), "Empty tokens count as words");
+        assertEquals(Set.of("", "hello", "world", "java"), App.uniqueWords(sentences), "Unique");
+        assertEquals(
+                List.of("", "hello", "java", "world"),
+                App.uniqueSortedWords(sentences),
+                "Unique and sorted");
+        assertEquals(
+                Map.of("a", 2L, "b", 1L), App.wordFrequency("A b a"), "Case-insensitive counts");
+    }
+}
@@ -0,0 +1,166 @@
+package java_stream_api;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Lane-parallel versions of the IntKernels loops. Compiled only by the vector build profile and
+// loaded reflectively by IntKernels when jdk.incubator.vector is in the boot layer; every method
+// finishes the tail that does not fill a vector with scalar code.
+final class VectorIntKernels implements IntKernels.Kernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    // Signed divisibility by multiplying with the modular inverse (Hacker's Delight 10-17):
+    // n % d == 0 iff n * inverse(d) + (MAX_VALUE / d) <= 2 * (MAX_VALUE / d), unsigned.
+    private static final int INVERSE_3 = 0xAAAAAAAB;
+    private static final int INVERSE_5 = 0xCCCCCCCD;
+    private static final int BOUND_3 = Integer.MAX_VALUE / 3;
+    private static final int BOUND_5 = Integer.MAX_VALUE / 5;
+
+    VectorIntKernels() {}
+
+    // Single-lane species would only add overhead over the scalar loops.
+    @Override
+    public boolean isVectorized() {
+        return LANES >= 4;
+    }
+
+    @Override
+    public IntList filterEven(int[] ints, int from, int to) {
+        return compress(ints, from, to, false);
+    }
+
+    @Override
+    public IntList filterOdd(int[] ints, int from, int to) {
+        return compress(ints, from, to, true);
+    }
+
+    private static IntList compress(int[] ints, int from, int to, boolean odd) {
+        // Compressed vectors are stored whole, so leave one vector of slack past the input.
+        IntList result = new IntList(to - from + LANES);
+        int[] out = result.elements;
+        int count = 0;
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, ints, i);
+            VectorMask<Integer> keep =
+                    v.and(1).compare(odd ? VectorOperators.NE : VectorOperators.EQ, 0);
+            v.compress(keep).intoArray(out, count);
+            count += keep.trueCount();
+        }
+        for (; i < to; i++) {
+            int n = ints[i];
+            if (((n & 1) != 0) == odd) out[count++] = n;
+        }
+        result.size = count;
+        return result;
+    }
+
+    @Override
+    public void squares(int[] ints, int from, int to, int[] out) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, ints, i);
+            v.mul(v).intoArray(out, i);
+        }
+        for (; i < to; i++) out[i] = ints[i] * ints[i];
+    }
+
+    @Override
+    public void doubleOdds(int[] ints, int from, int to, int[] out) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, ints, i);
+            VectorMask<Integer> odd = v.and(1).compare(VectorOperators.NE, 0);
+            v.add(v, odd).intoArray(out, i);
+        }
+        for (; i < to; i++) {
+            int n = ints[i];
+            out[i] = (n & 1) != 0 ? n * 2 : n;
+        }
+    }
+
+    @Override
+    public void clampNegatives(int[] ints, int from, int to, int[] out) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector.fromArray(SPECIES, ints, i).max(0).intoArray(out, i);
+        }
+        for (; i < to; i++) out[i] = Math.max(ints[i], 0);
+    }
+
+    @Override
+    public void abs(int[] ints, int from, int to, int[] out) {
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector.fromArray(SPECIES, ints, i).abs().intoArray(out, i);
+        }
+        for (; i < to; i++) out[i] = Math.abs(ints[i]);
+    }
+
+    @Override
+    public IntList removeMultiplesOf3Or5(int[] ints, int from, int to) {
+        IntList result = new IntList(to - from + LANES);
+        int[] out = result.elements;
+        int count = 0;
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            IntVector v = IntVector.fromArray(SPECIES, ints, i);
+            VectorMask<Integer> by3 =
+                    v.mul(INVERSE_3)
+                            .add(BOUND_3)
+                            .compare(VectorOperators.UNSIGNED_LE, 2 * BOUND_3);
+            VectorMask<Integer> by5 =
+                    v.mul(INVERSE_5)
+                            .add(BOUND_5)
+                            .compare(VectorOperators.UNSIGNED_LE, 2 * BOUND_5);
+            VectorMask<Integer> keep = by3.or(by5).not();
+            v.compress(keep).intoArray(out, count);
+            count += keep.trueCount();
+        }
+        for (; i < to; i++) {
+            int n = ints[i];
+            if (n % 3 != 0 && n % 5 != 0) out[count++] = n;
+        }
+        result.size = count;
+        return result;
+    }
+
+    @Override
+    public int sum(int[] ints, int from, int to) {
+        IntVector acc = IntVector.zero(SPECIES);
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            acc = acc.add(IntVector.fromArray(SPECIES, ints, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) sum += ints[i];
+        return sum;
+    }
+
+    @Override
+    public int min(int[] ints, int from, int to) {
+        IntVector acc = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            acc = acc.min(IntVector.fromArray(SPECIES, ints, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) min = Math.min(min, ints[i]);
+        return min;
+    }
+
+    @Override
+    public int max(int[] ints, int from, int to) {
+        IntVector acc = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = from;
+        for (int upper = from + SPECIES.loopBound(to - from); i < upper; i += LANES) {
+            acc = acc.max(IntVector.fromArray(SPECIES, ints, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) max = Math.max(max, ints[i]);
+        return max;
+    }
+}